@@ -0,0 +1,81 @@
+package com.jsonplaceholder.api.benchmarks;
+
+import com.jsonplaceholder.api.model.Address;
+import com.jsonplaceholder.api.model.Company;
+import com.jsonplaceholder.api.model.Geo;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.security.HmacSigningKeys;
+import com.jsonplaceholder.api.security.JwtTokenProvider;
+import com.jsonplaceholder.api.security.RevokedSessionIndex;
+import com.jsonplaceholder.api.security.TokenRevocationRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+final class Fixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-key-for-jwt-token-generation-and-validation";
+    static final long JWT_EXPIRATION = 86_400_000L;
+    static final String USERNAME = "Bret";
+
+    private Fixtures() {
+    }
+
+    static JwtTokenProvider tokenProvider(long cacheMaximumSize) {
+        return new JwtTokenProvider(new HmacSigningKeys(JWT_SECRET), JWT_EXPIRATION, cacheMaximumSize,
+                new TokenRevocationRegistry(JWT_EXPIRATION), new RevokedSessionIndex(JWT_EXPIRATION, 100_000),
+                new SimpleMeterRegistry());
+    }
+
+    static UserDetails userDetails() {
+        return userDetails(USERNAME);
+    }
+
+    static UserDetails userDetails(String username) {
+        return org.springframework.security.core.userdetails.User.withUsername(username)
+                .password("{noop}password")
+                .authorities(AuthorityUtils.createAuthorityList("ROLE_USER"))
+                .build();
+    }
+
+    static Authentication authentication() {
+        return authentication(USERNAME);
+    }
+
+    static Authentication authentication(String username) {
+        UserDetails userDetails = userDetails(username);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    static User user() {
+        Geo geo = new Geo();
+        geo.setLat(-37.3159);
+        geo.setLng(81.1496);
+
+        Address address = new Address();
+        address.setStreet("Kulas Light");
+        address.setSuite("Apt. 556");
+        address.setCity("Gwenborough");
+        address.setZipcode("92998-3874");
+        address.setGeo(geo);
+
+        Company company = new Company();
+        company.setName("Romaguera-Crona");
+        company.setCatchPhrase("Multi-layered client-server neural-net");
+        company.setBs("harness real-time e-markets");
+
+        User user = new User();
+        user.setId(1L);
+        user.setName("Leanne Graham");
+        user.setUsername(USERNAME);
+        user.setEmail("Sincere@april.biz");
+        user.setPassword("$2a$10$rDkPvvAFV6GgJkKq8XxKXe6XxKXe6XxKXe6XxKXe6XxKXe6XxKXe");
+        user.setPhone("1-770-736-8031 x56442");
+        user.setWebsite("hildegard.org");
+        user.setAddress(address);
+        user.setCompany(company);
+        return user;
+    }
+}
@@ -0,0 +1,61 @@
+package com.jsonplaceholder.api.benchmarks;
+
+import com.jsonplaceholder.api.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and validation. Validation cycles through {@value #TOKEN_COUNT} distinct tokens;
+ * {@code cacheSize=0} disables the validated-token cache, so every call pays for the full signature
+ * check and claims parsing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtTokenProviderBenchmark {
+
+    private static final int TOKEN_COUNT = 1024;
+
+    @Param({"10000", "0"})
+    long cacheSize;
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = Fixtures.tokenProvider(cacheSize);
+        authentication = Fixtures.authentication();
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = tokenProvider.generateToken(Fixtures.authentication(Fixtures.USERNAME + i));
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(nextToken());
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(nextToken());
+    }
+
+    private String nextToken() {
+        next = (next + 1) & (TOKEN_COUNT - 1);
+        return tokens[next];
+    }
+}
@@ -0,0 +1,16 @@
+package com.jsonplaceholder.api.config;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries second-level cache invalidations between application nodes. Hibernate keeps the local cache coherent
+ * with local writes; other nodes learn about them only through this hook. Provide a bean backed by a message
+ * bus (Redis pub/sub, Postgres LISTEN/NOTIFY, ...) to replace the in-JVM default.
+ */
+public interface CacheInvalidationBroadcaster {
+
+    /** Sends the invalidation to every subscribed node, possibly including the sender. */
+    void broadcast(UserCacheInvalidation invalidation);
+
+    void subscribe(Consumer<UserCacheInvalidation> listener);
+}
@@ -0,0 +1,43 @@
+package com.jsonplaceholder.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Enabled by setting {@code db.concurrency-limit.permits} without a replica. Replaces the auto-configured pool
+ * with the same Hikari pool behind a {@link ConcurrencyLimitingDataSource}; with a replica,
+ * {@link ReplicaRoutingConfig} limits each of its pools instead.
+ */
+@Configuration
+@ConditionalOnExpression("${db.concurrency-limit.permits:0} > 0 and '${db.replica.url:}'.isBlank()")
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        return limit(pool, environment);
+    }
+
+    /**
+     * Wraps the pool in a {@link ConcurrencyLimitingDataSource} when {@code db.concurrency-limit.permits} is set.
+     */
+    static DataSource limit(DataSource pool, Environment environment) {
+        int permits = environment.getProperty("db.concurrency-limit.permits", Integer.class, 0);
+        if (permits <= 0) {
+            return pool;
+        }
+        Duration acquireTimeout = environment.getProperty("db.concurrency-limit.acquire-timeout",
+                Duration.class, Duration.ofSeconds(2));
+        return new ConcurrencyLimitingDataSource(pool, permits, acquireTimeout);
+    }
+}
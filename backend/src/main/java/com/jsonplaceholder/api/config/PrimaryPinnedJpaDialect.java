@@ -0,0 +1,44 @@
+package com.jsonplaceholder.api.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Transactions begun while {@link ReplicaRouting pinned to the primary} bypass the second-level and query caches
+ * and refresh them from what they read. Those caches may still hold a result the replica returned before it
+ * caught up, which is exactly what a pinned read must not see.
+ */
+class PrimaryPinnedJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!ReplicaRouting.isPinnedToPrimary()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheModeReset reset = new CacheModeReset(transactionData, session, session.getCacheMode());
+        session.setCacheMode(CacheMode.REFRESH);
+        return reset;
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof CacheModeReset reset) {
+            // an open-in-view session outlives the transaction
+            reset.session().setCacheMode(reset.previous());
+            transactionData = reset.transactionData();
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record CacheModeReset(Object transactionData, Session session, CacheMode previous) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.jsonplaceholder.api.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Primary/replica routing. Connections are handed out lazily, so by the time a physical connection is needed
+ * the transaction manager has already marked it read-only or not: read-only transactions go to the replica
+ * pool, everything else (writes, Flyway, non-transactional access) to the primary. A read-only transaction
+ * on a thread pinned with {@link ReplicaRouting#onPrimary} still goes to the primary. The choice sticks to the
+ * session's connection, which is why {@code spring.jpa.open-in-view} is off: a request-wide session would reuse
+ * a replica connection for the request's later writes.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        AbstractRoutingDataSource readOnly = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return ReplicaRouting.isPinnedToPrimary() ? PRIMARY : REPLICA;
+            }
+        };
+        readOnly.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        readOnly.setLenientFallback(false);
+        readOnly.afterPropertiesSet();
+        setReadOnlyDataSource(readOnly);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource pool : new DataSource[] {replica, primary}) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jsonplaceholder.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Pins the whole request to the primary when the authenticated caller wrote within the sticky window, so a
+ * client reads its own writes. Registered after the security filter chain so the caller is known.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication caller = SecurityContextHolder.getContext().getAuthentication();
+        if (caller == null || !tracker.recentlyWroteAsCaller(caller.getName())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReplicaRouting.pin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRouting.unpin();
+        }
+    }
+}
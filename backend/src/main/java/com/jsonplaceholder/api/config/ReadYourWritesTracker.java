@@ -0,0 +1,63 @@
+package com.jsonplaceholder.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jsonplaceholder.api.service.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers, for {@code db.replica.sticky-window} after a commit, which usernames were written and which
+ * callers wrote them, so reads that depend on those writes can be pinned to the primary while the replica
+ * catches up: a login right after registration, or any request from a caller who has just written.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String USER = "user:";
+    private static final String CALLER = "caller:";
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(@Value("${db.replica.sticky-window:5s}") Duration stickyWindow) {
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public boolean recentlyWritten(String username) {
+        return username != null && recentWrites.getIfPresent(USER + username) != null;
+    }
+
+    public boolean recentlyWroteAsCaller(String caller) {
+        return caller != null && recentWrites.getIfPresent(CALLER + caller) != null;
+    }
+
+    /**
+     * Runs the read against the primary when {@code username} was written within the sticky window.
+     */
+    public <T> T readFor(String username, Supplier<T> read) {
+        return recentlyWritten(username) ? ReplicaRouting.onPrimary(read) : read.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getUser().getUsername() != null) {
+            recentWrites.put(USER + event.getUser().getUsername(), Boolean.TRUE);
+        }
+        if (event.getPreviousUsername() != null) {
+            recentWrites.put(USER + event.getPreviousUsername(), Boolean.TRUE);
+        }
+        Authentication caller = SecurityContextHolder.getContext().getAuthentication();
+        if (caller != null && caller.isAuthenticated()) {
+            recentWrites.put(CALLER + caller.getName(), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.jsonplaceholder.api.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound override that sends read-only transactions to the primary instead of the replica, for reads
+ * that must see a write the replica may not have applied yet. Takes effect on the next physical connection,
+ * which {@link ReadWriteRoutingDataSource} only fetches at the first statement of a transaction.
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Integer> PRIMARY_PINS = ThreadLocal.withInitial(() -> 0);
+
+    private ReplicaRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        pin();
+        try {
+            return action.get();
+        } finally {
+            unpin();
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINS.get() > 0;
+    }
+
+    static void pin() {
+        PRIMARY_PINS.set(PRIMARY_PINS.get() + 1);
+    }
+
+    static void unpin() {
+        int pins = PRIMARY_PINS.get() - 1;
+        if (pins <= 0) {
+            PRIMARY_PINS.remove();
+        } else {
+            PRIMARY_PINS.set(pins);
+        }
+    }
+}
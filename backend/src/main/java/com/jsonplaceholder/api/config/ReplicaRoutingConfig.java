@@ -0,0 +1,85 @@
+package com.jsonplaceholder.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * Enabled by setting {@code db.replica.url}. Replaces the auto-configured pool with a primary and a replica
+ * pool behind {@link ReadWriteRoutingDataSource}; both pools take the {@code spring.datasource.hikari} settings,
+ * and each gets its own {@code db.concurrency-limit} when that is set.
+ * Transactions pinned to the primary go around the Hibernate caches via {@link PrimaryPinnedJpaDialect}.
+ */
+@Configuration
+@ConditionalOnExpression("!'${db.replica.url:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+                                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = new HikariDataSource();
+        primary.copyStateTo(replica);
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(environment.getRequiredProperty("db.replica.url"));
+        replica.setUsername(environment.getProperty("db.replica.username", primary.getUsername()));
+        replica.setPassword(environment.getProperty("db.replica.password", primary.getPassword()));
+        replica.setMaximumPoolSize(environment.getProperty("db.replica.pool-size", Integer.class,
+                primary.getMaximumPoolSize()));
+        replica.setReadOnly(true);
+
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        primary.setMetricsTrackerFactory(metrics);
+        replica.setMetricsTrackerFactory(metrics);
+        return new ReadWriteRoutingDataSource(DatabaseConcurrencyConfig.limit(primary, environment),
+                DatabaseConcurrencyConfig.limit(replica, environment));
+    }
+
+    /**
+     * Boot's adapter, configured the same way, with the pinning-aware dialect.
+     */
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties) {
+        HibernateJpaDialect dialect = new PrimaryPinnedJpaDialect();
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return dialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null) {
+            adapter.setDatabase(properties.getDatabase());
+        }
+        if (properties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWritesTracker tracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(tracker));
+        // after Spring Security's chain, so the caller is authenticated
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,14 @@
+package com.jsonplaceholder.api.config;
+
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Users changed on node {@code origin}; receivers evict them and the cached query results.
+ */
+@Value
+public class UserCacheInvalidation {
+    String origin;
+    Set<Long> userIds;
+}
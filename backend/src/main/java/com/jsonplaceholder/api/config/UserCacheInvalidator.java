@@ -0,0 +1,47 @@
+package com.jsonplaceholder.api.config;
+
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.service.UserChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Publishes every committed user change through the {@link CacheInvalidationBroadcaster} and applies the
+ * changes published by other nodes to this node's second-level cache. Query results are evicted wholesale:
+ * a change on another node does not touch this node's update timestamps, so they cannot be trusted.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final Cache cache;
+
+    public UserCacheInvalidator(CacheInvalidationBroadcaster broadcaster, EntityManagerFactory entityManagerFactory) {
+        this.broadcaster = broadcaster;
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        broadcaster.subscribe(this::onInvalidation);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        broadcaster.broadcast(new UserCacheInvalidation(nodeId, Set.of(event.getUser().getId())));
+    }
+
+    void onInvalidation(UserCacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.getOrigin())) {
+            return;
+        }
+        invalidation.getUserIds().forEach(id -> cache.evictEntityData(User.class, id));
+        cache.evictQueryRegions();
+    }
+}
@@ -1,20 +1,35 @@
 package com.jsonplaceholder.api.controller;
 
+import com.jsonplaceholder.api.model.RegistrationStatus;
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserIdentity;
+import com.jsonplaceholder.api.security.IssuedRefreshToken;
 import com.jsonplaceholder.api.security.JwtTokenProvider;
+import com.jsonplaceholder.api.security.RefreshTokenService;
+import com.jsonplaceholder.api.service.RegistrationQueue;
 import com.jsonplaceholder.api.service.UserService;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -23,13 +38,22 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final RegistrationQueue registrationQueue;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsService userDetailsService;
 
     public AuthController(AuthenticationManager authenticationManager,
                          JwtTokenProvider tokenProvider,
-                         UserService userService) {
+                         UserService userService,
+                         RegistrationQueue registrationQueue,
+                         RefreshTokenService refreshTokenService,
+                         UserDetailsService userDetailsService) {
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
         this.userService = userService;
+        this.registrationQueue = registrationQueue;
+        this.refreshTokenService = refreshTokenService;
+        this.userDetailsService = userDetailsService;
     }
 
     @PostMapping("/login")
@@ -42,25 +66,67 @@ public class AuthController {
         );
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = tokenProvider.generateToken(authentication);
+        IssuedRefreshToken refreshToken = refreshTokenService.issue(authentication.getName());
+        String jwt = tokenProvider.generateToken(authentication, refreshToken.getSessionId());
+        return ResponseEntity.ok(tokens(jwt, refreshToken));
+    }
 
-        Map<String, String> response = new HashMap<>();
-        response.put("token", jwt);
-        return ResponseEntity.ok(response);
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody RefreshRequest refreshRequest) {
+        IssuedRefreshToken refreshToken = refreshTokenService.rotate(refreshRequest.getRefreshToken());
+        UserDetails userDetails = userDetailsService.loadUserByUsername(refreshToken.getUsername());
+        String jwt = tokenProvider.generateToken(userDetails, refreshToken.getSessionId());
+        return ResponseEntity.ok(tokens(jwt, refreshToken));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshRequest refreshRequest) {
+        refreshTokenService.revoke(refreshRequest.getRefreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@RequestBody User user) {
-        if (userService.findByUsername(user.getUsername()).isPresent()) {
+    public ResponseEntity<?> registerUser(@RequestBody User user,
+                                          @RequestHeader(value = "Prefer", required = false) String prefer) {
+        boolean respondAsync = prefer != null && prefer.toLowerCase(Locale.ROOT).contains("respond-async");
+        if (respondAsync || registrationQueue.isAsyncByDefault()) {
+            RegistrationStatus status = registrationQueue.submit(user);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/auth/register/" + status.getTicket()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(status);
+        }
+
+        List<UserIdentity> taken = userService.findIdentitiesByUsernameOrEmail(user.getUsername(), user.getEmail());
+        if (taken.stream().anyMatch(existing -> Objects.equals(existing.getUsername(), user.getUsername()))) {
             return ResponseEntity.badRequest().body("Username is already taken!");
         }
 
-        if (userService.findByEmail(user.getEmail()).isPresent()) {
+        if (!taken.isEmpty()) {
             return ResponseEntity.badRequest().body("Email is already in use!");
         }
 
-        User createdUser = userService.createUser(user);
-        return ResponseEntity.ok(createdUser);
+        try {
+            User createdUser = userService.createUser(user);
+            return ResponseEntity.ok(createdUser);
+        } catch (DataIntegrityViolationException e) {
+            // lost a race with a concurrent registration; the unique indexes are the source of truth
+            return ResponseEntity.badRequest().body("Username or email is already in use!");
+        }
+    }
+
+    @GetMapping("/register/{ticket}")
+    public ResponseEntity<RegistrationStatus> getRegistrationStatus(@PathVariable String ticket) {
+        return registrationQueue.status(ticket)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static Map<String, String> tokens(String jwt, IssuedRefreshToken refreshToken) {
+        Map<String, String> response = new HashMap<>();
+        response.put("token", jwt);
+        response.put("refreshToken", refreshToken.getToken());
+        return response;
     }
 }
 
@@ -83,4 +149,16 @@ class LoginRequest {
     public void setPassword(String password) {
         this.password = password;
     }
-} 
\ No newline at end of file
+} 
+
+class RefreshRequest {
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
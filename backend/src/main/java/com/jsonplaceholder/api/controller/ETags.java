@@ -0,0 +1,77 @@
+package com.jsonplaceholder.api.controller;
+
+import com.jsonplaceholder.api.model.CursorPage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.function.ToLongFunction;
+
+/**
+ * Strong entity tags for users, derived from the optimistic-lock version rather than from the response body,
+ * so a validator can be checked without loading or serializing the entity.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String forVersion(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Validator for one page of the collection: a digest of the (id, version) pairs on the page plus whether
+     * a next page exists. Any insert, update or delete that changes the page changes at least one of those.
+     */
+    static <T> String forPage(CursorPage<T> page, ToLongFunction<T> id, ToLongFunction<T> version) {
+        return forPage(page, id, version, "");
+    }
+
+    /**
+     * Same as {@link #forPage(CursorPage, ToLongFunction, ToLongFunction)} for another representation of the
+     * page, such as a sparse fieldset; the variant is mixed into the digest so representations never share a tag.
+     */
+    static <T> String forPage(CursorPage<T> page, ToLongFunction<T> id, ToLongFunction<T> version, String variant) {
+        byte[] variantBytes = variant.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(page.getItems().size() * 2 * Long.BYTES + 1 + variantBytes.length);
+        for (T item : page.getItems()) {
+            buffer.putLong(id.applyAsLong(item)).putLong(version.applyAsLong(item));
+        }
+        buffer.put((byte) (page.hasNext() ? 1 : 0));
+        buffer.put(variantBytes);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** Weak comparison, as required for {@code If-None-Match}. */
+    static boolean noneMatchHit(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Strong comparison, as required for {@code If-Match}. */
+    static boolean matchHit(String ifMatch, String etag) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jsonplaceholder.api.controller;
+
+import com.jsonplaceholder.api.security.JwtSigningKeys;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the token verification keys so gateways and other services can validate access tokens without
+ * calling this API. Successor keys appear here a full rotation interval before they sign, so the response can
+ * be cached.
+ */
+@RestController
+public class JwksController {
+
+    static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtSigningKeys signingKeys;
+
+    public JwksController(JwtSigningKeys signingKeys) {
+        this.signingKeys = signingKeys;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(Map.of("keys", signingKeys.publicJwks()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.jsonplaceholder.api.controller;
+
+import com.jsonplaceholder.api.model.UserSuggestion;
+import com.jsonplaceholder.api.service.UserAutocompleteIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserAutocompleteController {
+
+    static final int DEFAULT_SUGGESTIONS = 10;
+    static final int MAX_SUGGESTIONS = 50;
+
+    private final UserAutocompleteIndex autocompleteIndex;
+
+    public UserAutocompleteController(UserAutocompleteIndex autocompleteIndex) {
+        this.autocompleteIndex = autocompleteIndex;
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<UserSuggestion>> autocomplete(@RequestParam(defaultValue = "") String q,
+                                                             @RequestParam(required = false) Integer limit) {
+        int size = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(autocompleteIndex.complete(q, size));
+    }
+}
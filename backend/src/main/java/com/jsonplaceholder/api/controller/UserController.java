@@ -1,16 +1,36 @@
 package com.jsonplaceholder.api.controller;
 
+import com.jsonplaceholder.api.model.CursorPage;
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserField;
+import com.jsonplaceholder.api.model.UserFieldsRow;
+import com.jsonplaceholder.api.model.UserSearch;
+import com.jsonplaceholder.api.model.UserVersion;
 import com.jsonplaceholder.api.service.UserService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final UserService userService;
 
     public UserController(UserService userService) {
@@ -18,14 +38,81 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<List<User>> getAllUsers(@RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) Long after,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                  String ifNoneMatch) {
+        int pageSize = clampPageSize(limit);
+        if (ifNoneMatch != null) {
+            String etag = ETags.forPage(userService.getUserVersionsPage(after, pageSize),
+                    UserVersion::getId, UserVersion::getVersion);
+            if (ETags.noneMatchHit(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        CursorPage<User> page = userService.getUsersPage(after, pageSize);
+
+        return pageResponse(page, pageSize, ETags.forPage(page, User::getId, User::getVersion))
+                .body(page.getItems());
+    }
+
+    /**
+     * Sparse fieldset variant of the list, e.g. {@code fields=id,name,username,email}: only the requested
+     * columns are selected and serialized. The id is always included; the password is never selectable.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getUserFields(@RequestParam String fields,
+                                           @RequestParam(required = false) Integer limit,
+                                           @RequestParam(required = false) Long after,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                           String ifNoneMatch) {
+        Set<UserField> fieldSet;
+        try {
+            fieldSet = parseFields(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        String variant = fieldSet.stream().map(UserField::getAttribute).collect(Collectors.joining(","));
+        int pageSize = clampPageSize(limit);
+        if (ifNoneMatch != null) {
+            String etag = ETags.forPage(userService.getUserVersionsPage(after, pageSize),
+                    UserVersion::getId, UserVersion::getVersion, variant);
+            if (ETags.noneMatchHit(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        CursorPage<UserFieldsRow> page = userService.getUserFieldsPage(fieldSet, after, pageSize);
+
+        return pageResponse(page, pageSize, ETags.forPage(page, UserFieldsRow::getId, UserFieldsRow::getVersion, variant))
+                .body(page.getItems());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchUsers(UserSearch search,
+                                         @RequestParam(required = false) Integer limit,
+                                         @RequestParam(required = false) Long after) {
+        if (search.isEmpty()) {
+            return ResponseEntity.badRequest().body("At least one of name, city, company or website is required");
+        }
+        int pageSize = clampPageSize(limit);
+        CursorPage<User> page = userService.searchUsers(search, after, pageSize);
+
+        return pageResponse(page, pageSize, ETags.forPage(page, User::getId, User::getVersion, "search"))
+                .body(page.getItems());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+    public ResponseEntity<User> getUserById(@PathVariable Long id,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                            String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = userService.getUserVersion(id).map(ETags::forVersion);
+            if (etag.isPresent() && ETags.noneMatchHit(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
         return userService.getUserById(id)
-                .map(ResponseEntity::ok)
+                .map(user -> ResponseEntity.ok().eTag(ETags.forVersion(user.getVersion())).body(user))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -35,9 +122,24 @@ public class UserController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User user) {
+    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User user,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                           String ifMatch) {
+        if (ifMatch != null) {
+            Optional<Long> current = userService.getUserVersion(id);
+            if (current.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (!ETags.matchHit(ifMatch, ETags.forVersion(current.get()))) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            user.setVersion(current.get());
+        }
         try {
-            return ResponseEntity.ok(userService.updateUser(id, user));
+            User updated = userService.updateUser(id, user);
+            return ResponseEntity.ok().eTag(ETags.forVersion(updated.getVersion())).body(updated);
+        } catch (ResponseStatusException | DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -48,4 +150,84 @@ public class UserController {
         userService.deleteUser(id);
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> createUsers(@RequestBody List<User> users) {
+        if (users.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        return ResponseEntity.ok(userService.createUsers(users));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<?> updateUsers(@RequestBody List<User> users) {
+        if (users.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        if (users.stream().anyMatch(user -> user.getId() == null)) {
+            return ResponseEntity.badRequest().body("Every user in the batch needs an id");
+        }
+        try {
+            return ResponseEntity.ok(userService.updateUsers(users));
+        } catch (ResponseStatusException | DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<?> deleteUsers(@RequestBody List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        userService.deleteUsers(ids);
+        return ResponseEntity.ok().build();
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleConflict(DataIntegrityViolationException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Username or email is already in use");
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleStaleVersion(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("User was modified concurrently; reload and retry");
+    }
+
+    private static ResponseEntity<?> batchTooLarge() {
+        return ResponseEntity.badRequest().body("Batch size must not exceed " + MAX_BATCH_SIZE + " users");
+    }
+
+    private static ResponseEntity.BodyBuilder pageResponse(CursorPage<?> page, int pageSize, String etag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.getNextCursor())
+                    .replaceQueryParam("limit", pageSize)
+                    .build()
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()))
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response;
+    }
+
+    private static Set<UserField> parseFields(String fields) {
+        Set<UserField> fieldSet = new LinkedHashSet<>();
+        fieldSet.add(UserField.ID);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                fieldSet.add(UserField.fromName(name));
+            }
+        }
+        return fieldSet;
+    }
+
+    private static int clampPageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
 } 
\ No newline at end of file
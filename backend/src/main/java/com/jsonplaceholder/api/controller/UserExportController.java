@@ -0,0 +1,76 @@
+package com.jsonplaceholder.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserExportController {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int FLUSH_EVERY = 500;
+
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final Duration exportTimeout;
+
+    public UserExportController(UserService userService, ObjectMapper objectMapper,
+                                @Value("${users.export.timeout:30m}") Duration exportTimeout) {
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.exportTimeout = exportTimeout;
+    }
+
+    /**
+     * Streams from an async task with its own timeout; every other async request keeps the default one.
+     */
+    @GetMapping(value = "/export")
+    public WebAsyncTask<Void> exportUsers(HttpServletResponse response) {
+        response.setContentType(NDJSON.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"");
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            writeUsers(response.getOutputStream());
+            return null;
+        });
+    }
+
+    private void writeUsers(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(User.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            long[] written = {0};
+            userService.exportUsers(user -> {
+                try {
+                    writer.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                    if (++written[0] == 1 || written[0] % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jsonplaceholder.api.controller;
+
+import com.jsonplaceholder.api.service.UserGeoIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserNearbyController {
+
+    static final int DEFAULT_NEARBY = 10;
+    static final int MAX_NEARBY = 100;
+
+    private final UserGeoIndex geoIndex;
+
+    public UserNearbyController(UserGeoIndex geoIndex) {
+        this.geoIndex = geoIndex;
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<?> nearby(@RequestParam double lat,
+                                    @RequestParam double lng,
+                                    @RequestParam(required = false) Double radiusKm,
+                                    @RequestParam(required = false) Integer limit) {
+        // negated so NaN, which fails every comparison, is rejected too
+        if (!(Math.abs(lat) <= 90) || !(Math.abs(lng) <= 180)) {
+            return ResponseEntity.badRequest().body("lat must be within [-90, 90] and lng within [-180, 180]");
+        }
+        if (radiusKm != null && !(radiusKm > 0 && Double.isFinite(radiusKm))) {
+            return ResponseEntity.badRequest().body("radiusKm must be a positive number");
+        }
+        int size = limit == null ? DEFAULT_NEARBY : Math.max(1, Math.min(limit, MAX_NEARBY));
+        return ResponseEntity.ok(radiusKm == null
+                ? geoIndex.nearest(lat, lng, size)
+                : geoIndex.within(lat, lng, radiusKm, size));
+    }
+}
@@ -0,0 +1,17 @@
+package com.jsonplaceholder.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
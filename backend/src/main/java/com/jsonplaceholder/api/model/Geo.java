@@ -1,11 +1,19 @@
 package com.jsonplaceholder.api.model;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.Embeddable;
 import lombok.Data;
 
+/**
+ * Coordinates in decimal degrees. Stored as numbers so they can be indexed and compared; serialized as strings
+ * to keep the JSONPlaceholder wire format.
+ */
 @Data
 @Embeddable
 public class Geo {
-    private String lat;
-    private String lng;
-} 
\ No newline at end of file
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Double lat;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Double lng;
+}
@@ -0,0 +1,34 @@
+package com.jsonplaceholder.api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * One key of the JWT signing key ring. It signs from {@code activatesAt} until {@code retiresAt}, and is
+ * published and accepted for verification until {@code expiresAt}.
+ */
+@Data
+@Entity
+@Table(name = "jwt_signing_keys")
+public class JwtSigningKey {
+    @Id
+    @Column(length = 64)
+    private String kid;
+
+    @Column(nullable = false, length = 1024)
+    private String publicKey;
+
+    @Column(nullable = false, length = 1024)
+    private String privateKey;
+
+    @Column(nullable = false)
+    private Instant activatesAt;
+
+    @Column(nullable = false)
+    private Instant retiresAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
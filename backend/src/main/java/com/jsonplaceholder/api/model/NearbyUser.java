@@ -0,0 +1,13 @@
+package com.jsonplaceholder.api.model;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class NearbyUser {
+    @JsonUnwrapped
+    private UserLocation user;
+    private double distanceKm;
+}
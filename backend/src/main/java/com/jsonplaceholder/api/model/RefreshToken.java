@@ -0,0 +1,41 @@
+package com.jsonplaceholder.api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One issued refresh token. Only its digest is stored; {@code usedAt} is set when it is rotated and
+ * {@code revokedAt} when its family (the login session) is ended.
+ */
+@Data
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "ux_refresh_tokens_token_hash", columnList = "tokenHash", unique = true),
+        @Index(name = "ix_refresh_tokens_family_id", columnList = "familyId"),
+        @Index(name = "ix_refresh_tokens_user_id", columnList = "userId"),
+        @Index(name = "ix_refresh_tokens_revoked_at", columnList = "revokedAt")
+})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private UUID familyId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    private Instant usedAt;
+    private Instant revokedAt;
+}
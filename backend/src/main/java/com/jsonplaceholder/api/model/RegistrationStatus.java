@@ -0,0 +1,31 @@
+package com.jsonplaceholder.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+
+/**
+ * Outcome of a queued registration, polled through {@code GET /api/auth/register/{ticket}}.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegistrationStatus {
+
+    public enum State { PENDING, CREATED, REJECTED }
+
+    String ticket;
+    State state;
+    Long userId;
+    String reason;
+
+    public static RegistrationStatus pending(String ticket) {
+        return new RegistrationStatus(ticket, State.PENDING, null, null);
+    }
+
+    public static RegistrationStatus created(String ticket, Long userId) {
+        return new RegistrationStatus(ticket, State.CREATED, userId, null);
+    }
+
+    public static RegistrationStatus rejected(String ticket, String reason) {
+        return new RegistrationStatus(ticket, State.REJECTED, null, reason);
+    }
+}
@@ -0,0 +1,22 @@
+package com.jsonplaceholder.api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * When a user's access tokens were last revoked; the instant is the token epoch in milliseconds.
+ */
+@Data
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "ix_token_revocations_revoked_at", columnList = "revokedAt")
+})
+public class TokenRevocation {
+    @Id
+    private String username;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
@@ -1,14 +1,22 @@
 package com.jsonplaceholder.api.model;
 
+import com.jsonplaceholder.api.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity
-@Table(name = "users")
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USERS_REGION)
+@Table(name = "users", indexes = {
+        @Index(name = "ux_users_username", columnList = "username", unique = true),
+        @Index(name = "ux_users_email", columnList = "email", unique = true)
+})
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     private String name;
@@ -24,4 +32,7 @@ public class User {
     
     @Embedded
     private Company company;
+
+    @Version
+    private Long version;
 } 
\ No newline at end of file
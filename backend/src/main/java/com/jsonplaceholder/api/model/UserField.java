@@ -0,0 +1,44 @@
+package com.jsonplaceholder.api.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Attributes of {@link User} that may be requested through a sparse fieldset. The password is deliberately
+ * absent, so it can never be selected by a projection query.
+ */
+public enum UserField {
+    ID("id"),
+    NAME("name"),
+    USERNAME("username"),
+    EMAIL("email"),
+    PHONE("phone"),
+    WEBSITE("website"),
+    ADDRESS("address"),
+    COMPANY("company"),
+    VERSION("version");
+
+    private final String attribute;
+
+    UserField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public static UserField fromName(String name) {
+        for (UserField field : values()) {
+            if (field.attribute.equals(name.trim().toLowerCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field '" + name.trim() + "'; allowed fields are " + names());
+    }
+
+    public static String names() {
+        return Arrays.stream(values()).map(UserField::getAttribute).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,21 @@
+package com.jsonplaceholder.api.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * One row of a sparse fieldset query. Id and version are always selected to drive the cursor and the ETag;
+ * only {@code fields} is serialized.
+ */
+@Data
+@AllArgsConstructor
+public class UserFieldsRow {
+    private long id;
+    private long version;
+
+    @JsonValue
+    private Map<String, Object> fields;
+}
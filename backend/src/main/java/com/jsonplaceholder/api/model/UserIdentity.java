@@ -0,0 +1,9 @@
+package com.jsonplaceholder.api.model;
+
+/**
+ * Closed projection over the unique columns of {@link User}; Spring Data selects only these two columns.
+ */
+public interface UserIdentity {
+    String getUsername();
+    String getEmail();
+}
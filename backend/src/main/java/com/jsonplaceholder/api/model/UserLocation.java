@@ -0,0 +1,14 @@
+package com.jsonplaceholder.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UserLocation {
+    private Long id;
+    private String username;
+    private String name;
+    private double lat;
+    private double lng;
+}
@@ -0,0 +1,23 @@
+package com.jsonplaceholder.api.model;
+
+import lombok.Data;
+
+/**
+ * Filters for the user search, bound from query parameters. Matching is case-insensitive: {@code name} is a
+ * prefix, the other filters must match exactly.
+ */
+@Data
+public class UserSearch {
+    private String name;
+    private String city;
+    private String company;
+    private String website;
+
+    public boolean isEmpty() {
+        return isBlank(name) && isBlank(city) && isBlank(company) && isBlank(website);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
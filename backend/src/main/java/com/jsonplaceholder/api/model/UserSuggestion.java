@@ -0,0 +1,15 @@
+package com.jsonplaceholder.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Autocomplete entry for a user: just enough to render and select a match in the UI.
+ */
+@Data
+@AllArgsConstructor
+public class UserSuggestion {
+    private Long id;
+    private String username;
+    private String name;
+}
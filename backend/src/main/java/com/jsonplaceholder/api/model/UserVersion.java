@@ -0,0 +1,10 @@
+package com.jsonplaceholder.api.model;
+
+/**
+ * Closed projection over the id and optimistic-lock version of {@link User}; enough to build a validator
+ * for a page of users without loading or serializing the entities.
+ */
+public interface UserVersion {
+    Long getId();
+    Long getVersion();
+}
@@ -0,0 +1,17 @@
+package com.jsonplaceholder.api.repository;
+
+import com.jsonplaceholder.api.model.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+    @Modifying
+    @Query("delete from JwtSigningKey k where k.expiresAt < :now")
+    int deleteExpiredBefore(@Param("now") Instant now);
+}
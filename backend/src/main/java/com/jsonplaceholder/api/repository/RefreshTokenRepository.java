@@ -0,0 +1,40 @@
+package com.jsonplaceholder.api.repository;
+
+import com.jsonplaceholder.api.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Query("select distinct t.familyId from RefreshToken t where t.userId = :userId and t.revokedAt is null")
+    List<UUID> findActiveFamilyIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select distinct t.familyId from RefreshToken t where t.revokedAt >= :since")
+    List<UUID> findFamilyIdsRevokedSince(@Param("since") Instant since);
+
+    /**
+     * Marks the token rotated unless that already happened; 0 means it was presented twice.
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.usedAt = :now where t.id = :id and t.usedAt is null and t.revokedAt is null")
+    int markUsed(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId in :familyIds and t.revokedAt is null")
+    int revokeFamilies(@Param("familyIds") Collection<UUID> familyIds, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :before")
+    int deleteExpiredBefore(@Param("before") Instant before);
+}
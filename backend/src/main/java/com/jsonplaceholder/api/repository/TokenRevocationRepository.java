@@ -0,0 +1,20 @@
+package com.jsonplaceholder.api.repository;
+
+import com.jsonplaceholder.api.model.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, String> {
+    List<TokenRevocation> findByRevokedAtGreaterThanEqual(Instant since);
+
+    @Modifying
+    @Query("delete from TokenRevocation r where r.revokedAt < :before")
+    int deleteRevokedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,16 @@
+package com.jsonplaceholder.api.repository;
+
+import com.jsonplaceholder.api.model.UserField;
+import com.jsonplaceholder.api.model.UserFieldsRow;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Set;
+
+public interface UserFieldsRepository {
+    /**
+     * Selects only the requested columns (plus id and version) of the users with an id greater than
+     * {@code id}, ordered by id.
+     */
+    List<UserFieldsRow> findFieldsByIdGreaterThanOrderByIdAsc(Long id, Set<UserField> fields, Limit limit);
+}
@@ -0,0 +1,60 @@
+package com.jsonplaceholder.api.repository;
+
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserField;
+import com.jsonplaceholder.api.model.UserFieldsRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class UserFieldsRepositoryImpl implements UserFieldsRepository {
+
+    private final EntityManager entityManager;
+
+    UserFieldsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<UserFieldsRow> findFieldsByIdGreaterThanOrderByIdAsc(Long id, Set<UserField> fields, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> user = query.from(User.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(user.get("id").alias(UserField.ID.getAttribute()));
+        selections.add(user.get("version").alias(UserField.VERSION.getAttribute()));
+        for (UserField field : fields) {
+            if (field != UserField.ID && field != UserField.VERSION) {
+                selections.add(user.get(field.getAttribute()).alias(field.getAttribute()));
+            }
+        }
+        query.multiselect(selections)
+                .where(cb.greaterThan(user.get("id"), id))
+                .orderBy(cb.asc(user.get("id")));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+        List<UserFieldsRow> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (UserField field : fields) {
+                values.put(field.getAttribute(), tuple.get(field.getAttribute()));
+            }
+            rows.add(new UserFieldsRow(tuple.get(UserField.ID.getAttribute(), Long.class),
+                    tuple.get(UserField.VERSION.getAttribute(), Long.class), values));
+        }
+        return rows;
+    }
+}
@@ -1,15 +1,74 @@
 package com.jsonplaceholder.api.repository;
 
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserIdentity;
+import com.jsonplaceholder.api.model.UserLocation;
+import com.jsonplaceholder.api.model.UserSuggestion;
+import com.jsonplaceholder.api.model.UserVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserFieldsRepository {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
+
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
-} 
\ No newline at end of file
+    List<UserIdentity> findIdentitiesByUsernameOrEmail(String username, String email);
+    List<UserIdentity> findIdentitiesByUsernameInOrEmailIn(Collection<String> usernames, Collection<String> emails);
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    List<UserVersion> findVersionsByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select u from User u order by u.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<User> streamAll();
+
+    @Query("select new com.jsonplaceholder.api.model.UserSuggestion(u.id, u.username, u.name) from User u")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<UserSuggestion> streamSuggestions();
+
+    @Query("""
+            select new com.jsonplaceholder.api.model.UserLocation(
+                u.id, u.username, u.name, u.address.geo.lat, u.address.geo.lng)
+            from User u
+            where u.address.geo.lat is not null and u.address.geo.lng is not null""")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<UserLocation> streamLocations();
+
+    @Modifying(clearAutomatically = true)
+    @Query("update versioned User u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+}
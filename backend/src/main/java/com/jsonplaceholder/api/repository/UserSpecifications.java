@@ -0,0 +1,54 @@
+package com.jsonplaceholder.api.repository;
+
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserSearch;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search predicates for {@link User}. Every filter compares {@code lower(column)} so it can use the functional
+ * indexes created by the Postgres migrations, which also carry {@code id} to serve the keyset order.
+ */
+public final class UserSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> matching(UserSearch search, Long after) {
+        return (user, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.greaterThan(user.get("id"), after == null ? 0L : after));
+            if (hasText(search.getName())) {
+                predicates.add(cb.like(cb.lower(user.get("name")), escapeLike(normalize(search.getName())) + "%", LIKE_ESCAPE));
+            }
+            if (hasText(search.getCity())) {
+                predicates.add(cb.equal(cb.lower(user.get("address").get("city")), normalize(search.getCity())));
+            }
+            if (hasText(search.getCompany())) {
+                predicates.add(cb.equal(cb.lower(user.get("company").get("name")), normalize(search.getCompany())));
+            }
+            if (hasText(search.getWebsite())) {
+                predicates.add(cb.equal(cb.lower(user.get("website")), normalize(search.getWebsite())));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
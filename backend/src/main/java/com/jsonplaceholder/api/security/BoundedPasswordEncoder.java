@@ -0,0 +1,168 @@
+package com.jsonplaceholder.api.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the delegate's hashing on a fixed pool with a bounded queue. Callers still wait for the
+ * result, but at most {@code poolSize} hashes burn CPU at once, and once the queue is full new
+ * requests fail immediately with {@link PasswordHashingBusyException} instead of piling up.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Duration BATCH_SLOT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore batchSlots;
+    private final Duration batchSlotTimeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, MeterRegistry meterRegistry) {
+        this(delegate, poolSize, queueCapacity, meterRegistry, BATCH_SLOT_TIMEOUT);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, MeterRegistry meterRegistry,
+                           Duration batchSlotTimeout) {
+        this.delegate = delegate;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        // batches together may hold at most a quarter of the queue; the rest stays free for logins
+        this.batchSlots = new Semaphore(Math.max(1, queueCapacity / 4));
+        this.batchSlotTimeout = batchSlotTimeout;
+        new ExecutorServiceMetrics(executor, "passwordHashing", Tags.empty()).bindTo(meterRegistry);
+        // Timers cover queue wait plus hashing, i.e. what the caller actually waits for.
+        this.encodeTimer = Timer.builder("password.encode")
+                .description("Time to hash a password, including time queued for a hashing thread")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.matches")
+                .description("Time to verify a password, including time queued for a hashing thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("Hashing requests refused because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> await(submit(() -> delegate.encode(rawPassword))));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer.record(() -> await(submit(() -> delegate.matches(rawPassword, encodedPassword))));
+    }
+
+    /**
+     * Hashes a batch in parallel on the pool, with at most a quarter of the queue's capacity in
+     * flight across all batches. The caller waits for a free slot before submitting each entry, so a
+     * large batch slows itself down instead of crowding out single hashes; if no slot frees up in
+     * time, or the queue is full, it fails with {@link PasswordHashingBusyException}.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (CharSequence rawPassword : rawPasswords) {
+            acquireBatchSlot();
+            futures.add(submitBatchEntry(rawPassword));
+        }
+        List<String> encoded = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            encoded.add(await(future));
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void acquireBatchSlot() {
+        try {
+            if (!batchSlots.tryAcquire(batchSlotTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new PasswordHashingBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    private Future<String> submitBatchEntry(CharSequence rawPassword) {
+        // done() also runs when the entry is cancelled before it starts, so the slot is never lost
+        FutureTask<String> task = new FutureTask<>(() -> delegate.encode(rawPassword)) {
+            @Override
+            protected void done() {
+                batchSlots.release();
+            }
+        };
+        try {
+            executor.execute(task);
+            return task;
+        } catch (RejectedExecutionException e) {
+            batchSlots.release();
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -1,27 +1,85 @@
 package com.jsonplaceholder.api.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jsonplaceholder.api.config.ReadYourWritesTracker;
 import com.jsonplaceholder.api.model.User;
 import com.jsonplaceholder.api.repository.UserRepository;
+import com.jsonplaceholder.api.service.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.Collections;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    static final String CACHE_NAME = "userDetails";
 
     private final UserRepository userRepository;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Cache<String, UserDetails> userDetailsCache;
+    private final Timer lookupTimer;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    ReadYourWritesTracker readYourWrites,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${auth.user-cache.ttl:5m}") Duration ttl) {
         this.userRepository = userRepository;
+        this.readYourWrites = readYourWrites;
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, CACHE_NAME);
+        this.lookupTimer = Timer.builder("auth.user.lookup")
+                .description("Time to resolve UserDetails, from the cache or the database")
+                .register(meterRegistry);
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        UserDetails cached = lookupTimer.record(() -> userDetailsCache.get(username, this::loadFromRepository));
+        // Hand out a copy: the authentication manager erases credentials on the instance it receives.
+        return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        userDetailsCache.invalidate(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getPreviousUsername() != null) {
+            userDetailsCache.invalidate(event.getPreviousUsername());
+        }
+        if (event.getUser().getUsername() != null) {
+            userDetailsCache.invalidate(event.getUser().getUsername());
+        }
+    }
+
+    private UserDetails loadFromRepository(String username) {
+        // a login right after registration must not miss the user on a lagging replica
+        User user = readYourWrites.readFor(username, () -> userRepository.findByUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
         return new org.springframework.security.core.userdetails.User(
@@ -30,4 +88,4 @@ public class CustomUserDetailsService implements UserDetailsService {
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
     }
-} 
\ No newline at end of file
+}
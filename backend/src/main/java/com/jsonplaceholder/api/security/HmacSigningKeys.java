@@ -0,0 +1,43 @@
+package com.jsonplaceholder.api.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The shared-secret key derived from {@code jwt.secret}. Only holders of the secret can verify tokens, so
+ * nothing is published.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.algorithm", havingValue = "HS256", matchIfMissing = true)
+public class HmacSigningKeys implements JwtSigningKeys {
+
+    private final SigningKey signingKey;
+
+    public HmacSigningKeys(@Value("${jwt.secret}") String jwtSecret) {
+        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.signingKey = new SigningKey(null, key, SignatureAlgorithm.forSigningKey(key));
+    }
+
+    @Override
+    public SigningKey current() {
+        return signingKey;
+    }
+
+    @Override
+    public Optional<Key> verificationKey(String kid) {
+        return Optional.of(signingKey.key());
+    }
+
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        return List.of();
+    }
+}
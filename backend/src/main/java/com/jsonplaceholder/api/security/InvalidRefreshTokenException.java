@@ -0,0 +1,11 @@
+package com.jsonplaceholder.api.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidRefreshTokenException extends ResponseStatusException {
+
+    public InvalidRefreshTokenException() {
+        super(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+    }
+}
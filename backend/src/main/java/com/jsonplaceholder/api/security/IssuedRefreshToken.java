@@ -0,0 +1,18 @@
+package com.jsonplaceholder.api.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A newly issued refresh token. {@code token} is the only copy of the raw value; {@code sessionId} is the
+ * token family, carried by access tokens as their {@code sid} claim.
+ */
+@Value
+public class IssuedRefreshToken {
+    String token;
+    UUID sessionId;
+    String username;
+    Instant expiresAt;
+}
@@ -0,0 +1,33 @@
+package com.jsonplaceholder.api.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Where {@link JwtTokenProvider} gets its keys: the key to sign with now, and the already decoded key that
+ * verifies a token naming a given {@code kid}. Selected with {@code jwt.algorithm}.
+ */
+public interface JwtSigningKeys {
+
+    SigningKey current();
+
+    /**
+     * @param kid the token's {@code kid} header, or {@code null} if it has none
+     */
+    Optional<Key> verificationKey(String kid);
+
+    /**
+     * Public keys for {@code /.well-known/jwks.json}, as JWK objects.
+     */
+    List<Map<String, Object>> publicJwks();
+
+    /**
+     * @param kid written to the token header when not {@code null}
+     */
+    record SigningKey(String kid, Key key, SignatureAlgorithm algorithm) {
+    }
+}
@@ -1,61 +1,210 @@
 package com.jsonplaceholder.api.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    static final String AUTHORITIES_CLAIM = "roles";
+    static final String EPOCH_CLAIM = "epoch";
+    static final String SESSION_CLAIM = "sid";
+    static final String CACHE_NAME = "validatedTokens";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
+    private final JwtSigningKeys signingKeys;
+    private final JwtParser jwtParser;
+    private final Cache<String, ValidatedToken> validatedTokens;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final RevokedSessionIndex revokedSessions;
+    private final Timer signTimer;
+    private final Timer parseTimer;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtTokenProvider(JwtSigningKeys signingKeys,
+                            @Value("${jwt.expiration}") long jwtExpiration,
+                            @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+                            TokenRevocationRegistry revocationRegistry,
+                            RevokedSessionIndex revokedSessions,
+                            MeterRegistry meterRegistry) {
+        this.jwtExpiration = jwtExpiration;
+        this.revocationRegistry = revocationRegistry;
+        this.revokedSessions = revokedSessions;
+        this.signingKeys = signingKeys;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KidResolver(signingKeys))
+                .build();
+        this.validatedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, validatedTokens, CACHE_NAME);
+        this.signTimer = Timer.builder("jwt.sign")
+                .description("Time to build and sign a JWT")
+                .register(meterRegistry);
+        this.parseTimer = Timer.builder("jwt.parse")
+                .description("Time to verify and parse a JWT that was not in the validated-token cache")
+                .register(meterRegistry);
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return generateToken((UserDetails) authentication.getPrincipal(), null);
+    }
+
+    public String generateToken(Authentication authentication, UUID sessionId) {
+        return generateToken((UserDetails) authentication.getPrincipal(), sessionId);
+    }
+
+    /**
+     * Signs an access token; tokens with a {@code sessionId} stop working once that session is revoked.
+     */
+    public String generateToken(UserDetails userDetails, UUID sessionId) {
+        return signTimer.record(() -> sign(userDetails, sessionId));
+    }
+
+    private String sign(UserDetails userDetails, UUID sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userDetails.getUsername())
+                .claim(AUTHORITIES_CLAIM, AuthorityUtils.authorityListToSet(userDetails.getAuthorities()))
+                .claim(EPOCH_CLAIM, revocationRegistry.issuingEpoch(userDetails.getUsername()))
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .setExpiration(expiryDate);
+        if (sessionId != null) {
+            builder.claim(SESSION_CLAIM, sessionId.toString());
+        }
+        JwtSigningKeys.SigningKey signingKey = signingKeys.current();
+        if (signingKey.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid());
+        }
+        return builder.signWith(signingKey.key(), signingKey.algorithm()).compact();
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return validate(token).getUsername();
     }
 
     public boolean validateToken(String token) {
+        return resolveToken(token).isPresent();
+    }
+
+    public Optional<ValidatedToken> resolveToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return Optional.of(validate(token));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    private ValidatedToken validate(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        String key = digest(token);
+        ValidatedToken validated = validatedTokens.getIfPresent(key);
+        if (validated == null) {
+            validated = parseTimer.record(() -> parse(token));
+            if (validated.getExpiresAt() != null) {
+                validatedTokens.put(key, validated);
+            }
+        }
+        if (revocationRegistry.isRevoked(validated.getUsername(), validated.getEpoch())) {
+            throw new JwtException("JWT token has been revoked");
+        }
+        if (validated.getSessionId() != null && revokedSessions.isRevoked(validated.getSessionId())) {
+            throw new JwtException("JWT session has been revoked");
+        }
+        return validated;
+    }
+
+    private ValidatedToken parse(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        Collection<?> roles = claims.get(AUTHORITIES_CLAIM, Collection.class);
+        Number epoch = claims.get(EPOCH_CLAIM, Number.class);
+        String sessionId = claims.get(SESSION_CLAIM, String.class);
+        return new ValidatedToken(
+                claims.getSubject(),
+                expiration != null ? expiration.toInstant() : null,
+                roles != null ? toAuthorities(roles) : null,
+                epoch != null ? epoch.longValue() : 0L,
+                sessionId != null ? UUID.fromString(sessionId) : null
+        );
+    }
+
+    private static List<GrantedAuthority> toAuthorities(Collection<?> roles) {
+        return AuthorityUtils.createAuthorityList(roles.stream().map(String::valueOf).toList());
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Picks the verification key named by the token's {@code kid}; jjwt then rejects a header {@code alg} that
+     * does not fit that key.
+     */
+    private static class KidResolver extends SigningKeyResolverAdapter {
+
+        private final JwtSigningKeys signingKeys;
+
+        KidResolver(JwtSigningKeys signingKeys) {
+            this.signingKeys = signingKeys;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            return signingKeys.verificationKey(header.getKeyId())
+                    .orElseThrow(() -> new JwtException("Unknown JWT signing key"));
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, ValidatedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, ValidatedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ValidatedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ValidatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-} 
\ No newline at end of file
+}
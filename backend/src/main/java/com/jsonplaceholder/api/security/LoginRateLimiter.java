@@ -0,0 +1,151 @@
+package com.jsonplaceholder.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per client IP and per username login budgets, as token buckets in their GCRA form: each key holds only its
+ * theoretical arrival time, advanced with a compare-and-set, so acquiring never locks. Every attempt costs its
+ * IP a token. A username's token is reserved before authentication, so a concurrent burst against one user
+ * cannot get more password hashes than the budget allows, and refunded when the login succeeds, so only failed
+ * attempts use up the user's budget. Buckets live in bounded Caffeine caches and expire once they would
+ * have refilled, so expiry loses nothing; eviction beyond {@code max-keys}, though, resets a bucket early.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final Bucket perIp;
+    private final Bucket perUsername;
+    private final LongSupplier nanoClock;
+    private final Counter ipRejections;
+    private final Counter usernameRejections;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${auth.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${auth.rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${auth.rate-limit.per-ip.per-minute:60}") int ipPerMinute,
+                            @Value("${auth.rate-limit.per-ip.burst:20}") int ipBurst,
+                            @Value("${auth.rate-limit.per-username.per-minute:10}") int usernamePerMinute,
+                            @Value("${auth.rate-limit.per-username.burst:5}") int usernameBurst,
+                            MeterRegistry meterRegistry) {
+        this(enabled, maxKeys, ipPerMinute, ipBurst, usernamePerMinute, usernameBurst, meterRegistry, System::nanoTime);
+    }
+
+    LoginRateLimiter(boolean enabled, long maxKeys, int ipPerMinute, int ipBurst, int usernamePerMinute,
+                     int usernameBurst, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.perIp = new Bucket(ipPerMinute, ipBurst, maxKeys, nanoClock);
+        this.perUsername = new Bucket(usernamePerMinute, usernameBurst, maxKeys, nanoClock);
+        this.nanoClock = nanoClock;
+        this.ipRejections = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before authentication")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        this.usernameRejections = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before authentication")
+                .tag("key", "username")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one attempt from the client's budget.
+     *
+     * @return how long the client must wait, or {@link Duration#ZERO} if the attempt may proceed
+     */
+    public Duration acquireForIp(String ip) {
+        return acquire(perIp, ip, ipRejections);
+    }
+
+    /**
+     * Reserves one attempt from the username's budget; usernames differing only in case share one budget.
+     * {@link #refundUsername} gives it back if the attempt succeeds.
+     *
+     * @return how long the client must wait, or {@link Duration#ZERO} if the attempt may proceed
+     */
+    public Duration acquireForUsername(String username) {
+        return acquire(perUsername, username == null ? null : username.toLowerCase(Locale.ROOT), usernameRejections);
+    }
+
+    /**
+     * Returns the attempt reserved by {@link #acquireForUsername}.
+     */
+    public void refundUsername(String username) {
+        if (enabled && username != null) {
+            perUsername.refund(username.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    @EventListener
+    public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        refundUsername(event.getAuthentication().getName());
+    }
+
+    private Duration acquire(Bucket bucket, String key, Counter rejections) {
+        if (!enabled || key == null) {
+            return Duration.ZERO;
+        }
+        long waitNanos = bucket.acquire(key, nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            rejections.increment();
+            return Duration.ofNanos(waitNanos);
+        }
+        return Duration.ZERO;
+    }
+
+    private static final class Bucket {
+
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        private final Cache<String, AtomicLong> arrivals;
+
+        Bucket(int perMinute, int burst, long maxKeys, LongSupplier nanoClock) {
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+            this.burstNanos = emissionIntervalNanos * burst;
+            this.arrivals = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(Duration.ofNanos(burstNanos))
+                    .ticker(nanoClock::getAsLong)
+                    .build();
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+         */
+        long acquire(String key, long now) {
+            AtomicLong arrival = arrivals.get(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = arrival.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long wait = next - burstNanos - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (arrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        void refund(String key) {
+            AtomicLong arrival = arrivals.getIfPresent(key);
+            if (arrival != null) {
+                // may fall behind the clock; acquire never looks further back than now, so the burst stays capped
+                arrival.addAndGet(-emissionIntervalNanos);
+            }
+        }
+    }
+}
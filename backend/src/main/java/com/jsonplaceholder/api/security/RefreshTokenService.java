@@ -0,0 +1,173 @@
+package com.jsonplaceholder.api.security;
+
+import com.jsonplaceholder.api.model.RefreshToken;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.RefreshTokenRepository;
+import com.jsonplaceholder.api.repository.UserRepository;
+import com.jsonplaceholder.api.service.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens. Each login starts a token family; every refresh retires the presented token and
+ * issues its successor in the same family. A retired token presented again means it leaked, so the whole
+ * family is revoked, and through {@link RevokedSessionIndex} so are the access tokens issued for it.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    // families revoked by a transaction that committed while a poll was running carry an earlier timestamp
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final RevokedSessionIndex revokedSessions;
+    private final Duration refreshTokenLifetime;
+    private final Duration accessTokenLifetime;
+    private final SecureRandom random = new SecureRandom();
+    private Instant polledAt;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               RevokedSessionIndex revokedSessions,
+                               @Value("${jwt.refresh.expiration:30d}") Duration refreshTokenLifetime,
+                               @Value("${jwt.expiration}") long accessTokenLifetimeMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.revokedSessions = revokedSessions;
+        this.refreshTokenLifetime = refreshTokenLifetime;
+        this.accessTokenLifetime = Duration.ofMillis(accessTokenLifetimeMillis);
+    }
+
+    /**
+     * Starts a new session for a user who has just authenticated.
+     */
+    public IssuedRefreshToken issue(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(InvalidRefreshTokenException::new);
+        return store(user, UUID.randomUUID(), Instant.now());
+    }
+
+    /**
+     * Exchanges a refresh token for its successor.
+     *
+     * @throws InvalidRefreshTokenException if the token is unknown, expired, revoked or already rotated
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public IssuedRefreshToken rotate(String rawToken) {
+        RefreshToken current = find(rawToken);
+        Instant now = Instant.now();
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            // replayed: whoever holds the successor may be an attacker, so end the session for everyone
+            revokeFamilies(List.of(current.getFamilyId()), now);
+            throw new InvalidRefreshTokenException();
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException();
+        }
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(InvalidRefreshTokenException::new);
+        return store(user, current.getFamilyId(), now);
+    }
+
+    /**
+     * Ends the session the token belongs to. Unknown tokens are ignored, so logging out twice is harmless.
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(JwtTokenProvider.digest(rawToken))
+                .ifPresent(token -> revokeFamilies(List.of(token.getFamilyId()), Instant.now()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.UPDATED && event.isCredentialsChanged()) {
+            List<UUID> families = refreshTokenRepository.findActiveFamilyIdsByUserId(event.getUser().getId());
+            if (!families.isEmpty()) {
+                revokeFamilies(families, Instant.now());
+            }
+        }
+    }
+
+    /**
+     * Drops expired tokens and reloads the sessions revoked within the last access-token lifetime.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedSessions() {
+        refreshTokenRepository.deleteExpiredBefore(Instant.now());
+        pollRevokedSessions();
+    }
+
+    /**
+     * Picks up sessions ended on other instances, by logout, replay or a password change, so their access
+     * tokens are rejected here too.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval:30000}",
+            initialDelayString = "${jwt.revocation.poll-interval:30000}")
+    @Transactional(readOnly = true)
+    public synchronized void pollRevokedSessions() {
+        Instant now = Instant.now();
+        Instant oldestLive = now.minus(accessTokenLifetime);
+        Instant since = polledAt != null && polledAt.minus(POLL_OVERLAP).isAfter(oldestLive)
+                ? polledAt.minus(POLL_OVERLAP) : oldestLive;
+        List<UUID> familyIds = refreshTokenRepository.findFamilyIdsRevokedSince(since);
+        if (!familyIds.isEmpty()) {
+            revokedSessions.revoke(familyIds, now.toEpochMilli());
+        }
+        polledAt = now;
+    }
+
+    /**
+     * Keeps the table and the revoked-session index from growing on a long-running instance.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.cleanup-interval:3600000}",
+            initialDelayString = "${jwt.refresh.cleanup-interval:3600000}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpiredBefore(Instant.now());
+        revokedSessions.prune();
+    }
+
+    private RefreshToken find(String rawToken) {
+        if (rawToken == null || rawToken.isEmpty()) {
+            throw new InvalidRefreshTokenException();
+        }
+        return refreshTokenRepository.findByTokenHash(JwtTokenProvider.digest(rawToken))
+                .orElseThrow(InvalidRefreshTokenException::new);
+    }
+
+    private void revokeFamilies(Collection<UUID> familyIds, Instant now) {
+        refreshTokenRepository.revokeFamilies(familyIds, now);
+        // before commit: if the transaction rolls back, the session is rejected a little early, never late
+        revokedSessions.revoke(familyIds, now.toEpochMilli());
+    }
+
+    private IssuedRefreshToken store(User user, UUID familyId, Instant now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(JwtTokenProvider.digest(rawToken));
+        token.setFamilyId(familyId);
+        token.setUserId(user.getId());
+        token.setExpiresAt(now.plus(refreshTokenLifetime));
+        refreshTokenRepository.save(token);
+        return new IssuedRefreshToken(rawToken, familyId, user.getUsername(), token.getExpiresAt());
+    }
+}
@@ -0,0 +1,84 @@
+package com.jsonplaceholder.api.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sessions (refresh token families) whose access tokens must be rejected. Checked on every authenticated
+ * request, so it never touches the database: a Bloom filter answers the common "not revoked" case, and the
+ * exact set settles the rare hits. A session only needs to be remembered for one access-token lifetime after
+ * it is revoked; after that its access tokens have expired anyway. Filled from storage at startup, kept in step
+ * with the other instances by polling, and pruned periodically, by {@link RefreshTokenService}.
+ */
+@Component
+public class RevokedSessionIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final long retentionMillis;
+    private final int expectedSessions;
+    private final Map<UUID, Long> revoked = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile SessionBloomFilter bloom;
+
+    public RevokedSessionIndex(@Value("${jwt.expiration}") long accessTokenLifetimeMillis,
+                               @Value("${jwt.revocation.expected-sessions:100000}") int expectedSessions) {
+        this.retentionMillis = accessTokenLifetimeMillis;
+        this.expectedSessions = expectedSessions;
+        this.bloom = new SessionBloomFilter(expectedSessions, FALSE_POSITIVE_RATE);
+    }
+
+    public boolean isRevoked(UUID sessionId) {
+        return bloom.mightContain(sessionId) && revoked.containsKey(sessionId);
+    }
+
+    public void revoke(Collection<UUID> sessionIds, long revokedAtMillis) {
+        synchronized (writeLock) {
+            boolean pruned = removeExpired();
+            sessionIds.forEach(id -> revoked.merge(id, revokedAtMillis, Math::max));
+            if (pruned || revoked.size() > bloom.capacity()) {
+                rebuild();
+            } else {
+                sessionIds.forEach(bloom::put);
+            }
+        }
+    }
+
+    /**
+     * Forgets sessions revoked more than one access-token lifetime ago, shrinking the filter to match, even
+     * when no new revocations arrive.
+     */
+    public void prune() {
+        synchronized (writeLock) {
+            if (removeExpired()) {
+                rebuild();
+            }
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    int filterCapacity() {
+        return bloom.capacity();
+    }
+
+    private boolean removeExpired() {
+        long horizon = System.currentTimeMillis() - retentionMillis;
+        return revoked.values().removeIf(revokedAt -> revokedAt < horizon);
+    }
+
+    private void rebuild() {
+        // Bloom filters cannot forget; start a fresh one sized for what is left
+        SessionBloomFilter rebuilt = new SessionBloomFilter(
+                Math.max(expectedSessions, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        bloom = rebuilt;
+    }
+}
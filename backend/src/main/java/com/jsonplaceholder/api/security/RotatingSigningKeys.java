@@ -0,0 +1,278 @@
+package com.jsonplaceholder.api.security;
+
+import com.jsonplaceholder.api.model.JwtSigningKey;
+import com.jsonplaceholder.api.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * ES256 key ring shared by all instances through the {@code jwt_signing_keys} table. Each key signs for
+ * {@code jwt.keys.rotation-interval}; its successor is stored, and so published, a full interval before it takes
+ * over, and a retired key keeps verifying for one access-token lifetime plus {@code jwt.keys.clock-skew}.
+ * Rotation happens on the first call after a key boundary, so no scheduler is needed. Private keys are stored
+ * encrypted with a key derived from {@code jwt.secret}.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.algorithm", havingValue = "ES256")
+public class RotatingSigningKeys implements JwtSigningKeys {
+
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.ES256;
+    private static final int COORDINATE_BYTES = 32;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final Duration UNKNOWN_KID_RELOAD_INTERVAL = Duration.ofSeconds(10);
+
+    private final JwtSigningKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecretKey keyEncryptionKey;
+    private final Duration rotationInterval;
+    private final Duration overlap;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    private volatile Ring ring;
+    private volatile Instant lastLoad = Instant.EPOCH;
+
+    @Autowired
+    public RotatingSigningKeys(JwtSigningKeyRepository repository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${jwt.secret}") String jwtSecret,
+                               @Value("${jwt.expiration}") long accessTokenLifetimeMillis,
+                               @Value("${jwt.keys.rotation-interval:24h}") Duration rotationInterval,
+                               @Value("${jwt.keys.clock-skew:1m}") Duration clockSkew) {
+        this(repository, transactionManager, jwtSecret, accessTokenLifetimeMillis, rotationInterval, clockSkew,
+                Clock.systemUTC());
+    }
+
+    RotatingSigningKeys(JwtSigningKeyRepository repository, PlatformTransactionManager transactionManager,
+                        String jwtSecret, long accessTokenLifetimeMillis, Duration rotationInterval,
+                        Duration clockSkew, Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.keyEncryptionKey = new SecretKeySpec(sha256(jwtSecret), "AES");
+        this.rotationInterval = rotationInterval;
+        this.overlap = Duration.ofMillis(accessTokenLifetimeMillis).plus(clockSkew);
+        this.clock = clock;
+    }
+
+    @Override
+    public SigningKey current() {
+        return ring().signingKey();
+    }
+
+    @Override
+    public Optional<Key> verificationKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+        Ring seen = ring();
+        Key key = seen.verificationKeys().get(kid);
+        // another instance may have rotated first; look again, but not on every forged kid
+        if (key == null && !clock.instant().isBefore(lastLoad.plus(UNKNOWN_KID_RELOAD_INTERVAL))) {
+            key = load(seen).verificationKeys().get(kid);
+        }
+        return Optional.ofNullable(key);
+    }
+
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        return ring().jwks();
+    }
+
+    private Ring ring() {
+        Ring current = ring;
+        if (current == null || !clock.instant().isBefore(current.refreshAt())) {
+            current = load(current);
+        }
+        return current;
+    }
+
+    private synchronized Ring load(Ring seen) {
+        if (ring != seen) {
+            return ring;
+        }
+        Instant now = clock.instant();
+        List<JwtSigningKey> rows = new ArrayList<>(repository.findAll());
+        rows.removeIf(row -> !row.getExpiresAt().isAfter(now));
+
+        // every instance settles on the same key: the newest active one, ties broken by kid
+        List<JwtSigningKey> candidates = rows.stream()
+                .filter(row -> !row.getActivatesAt().isAfter(now) && row.getRetiresAt().isAfter(now))
+                .sorted(Comparator.comparing(JwtSigningKey::getActivatesAt)
+                        .thenComparing(JwtSigningKey::getKid)
+                        .reversed())
+                .toList();
+        Map<String, PrivateKey> privateKeys = new HashMap<>();
+        JwtSigningKey active = null;
+        for (JwtSigningKey candidate : candidates) {
+            Optional<PrivateKey> privateKey = decryptPrivateKey(candidate);
+            if (privateKey.isPresent()) {
+                privateKeys.put(candidate.getKid(), privateKey.get());
+                active = candidate;
+                break;
+            }
+        }
+
+        List<JwtSigningKey> created = new ArrayList<>();
+        if (active == null) {
+            active = generate(now, privateKeys);
+            created.add(active);
+        }
+        Instant activeSince = active.getActivatesAt();
+        if (rows.stream()
+                .filter(row -> row.getActivatesAt().isAfter(activeSince))
+                .noneMatch(row -> decryptPrivateKey(row).isPresent())) {
+            created.add(generate(active.getRetiresAt(), privateKeys));
+        }
+        if (!created.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.deleteExpiredBefore(now);
+                repository.saveAll(created);
+            });
+            rows.addAll(created);
+        }
+
+        Map<String, Key> verificationKeys = new HashMap<>();
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        Instant refreshAt = active.getRetiresAt();
+        for (JwtSigningKey row : rows) {
+            Key previous = seen != null ? seen.verificationKeys().get(row.getKid()) : null;
+            ECPublicKey publicKey = previous != null ? (ECPublicKey) previous : decodePublicKey(row);
+            verificationKeys.put(row.getKid(), publicKey);
+            jwks.add(toJwk(row.getKid(), publicKey));
+            if (row.getExpiresAt().isBefore(refreshAt)) {
+                refreshAt = row.getExpiresAt();
+            }
+            if (row.getActivatesAt().isAfter(now) && row.getActivatesAt().isBefore(refreshAt)) {
+                refreshAt = row.getActivatesAt();
+            }
+        }
+        SigningKey signingKey = new SigningKey(active.getKid(), privateKeys.get(active.getKid()), ALGORITHM);
+        lastLoad = now;
+        ring = new Ring(signingKey, refreshAt, Map.copyOf(verificationKeys), List.copyOf(jwks));
+        return ring;
+    }
+
+    private JwtSigningKey generate(Instant activatesAt, Map<String, PrivateKey> privateKeys) {
+        KeyPair keyPair = Keys.keyPairFor(ALGORITHM);
+        JwtSigningKey row = new JwtSigningKey();
+        row.setKid(UUID.randomUUID().toString());
+        row.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        row.setPrivateKey(encrypt(row.getKid(), keyPair.getPrivate().getEncoded()));
+        row.setActivatesAt(activatesAt);
+        row.setRetiresAt(activatesAt.plus(rotationInterval));
+        row.setExpiresAt(row.getRetiresAt().plus(overlap));
+        privateKeys.put(row.getKid(), keyPair.getPrivate());
+        return row;
+    }
+
+    private String encrypt(String kid, byte[] plaintext) {
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] ciphertext = cipher.doFinal(plaintext);
+            byte[] stored = Arrays.copyOf(iv, IV_BYTES + ciphertext.length);
+            System.arraycopy(ciphertext, 0, stored, IV_BYTES, ciphertext.length);
+            return Base64.getEncoder().encodeToString(stored);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to encrypt JWT signing key", e);
+        }
+    }
+
+    /**
+     * Empty when the key was stored under a different {@code jwt.secret}; such a key can still verify.
+     */
+    private Optional<PrivateKey> decryptPrivateKey(JwtSigningKey row) {
+        try {
+            byte[] stored = Base64.getDecoder().decode(row.getPrivateKey());
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, stored, 0, IV_BYTES));
+            cipher.updateAAD(row.getKid().getBytes(StandardCharsets.UTF_8));
+            byte[] encoded = cipher.doFinal(stored, IV_BYTES, stored.length - IV_BYTES);
+            return Optional.of(KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static ECPublicKey decodePublicKey(JwtSigningKey row) {
+        try {
+            byte[] encoded = Base64.getDecoder().decode(row.getPublicKey());
+            PublicKey key = KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(encoded));
+            return (ECPublicKey) key;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid public key for JWT signing key " + row.getKid(), e);
+        }
+    }
+
+    private static Map<String, Object> toJwk(String kid, ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", ALGORITHM.getValue());
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[COORDINATE_BYTES];
+        int length = Math.min(bytes.length, COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Ring(SigningKey signingKey, Instant refreshAt, Map<String, Key> verificationKeys,
+                        List<Map<String, Object>> jwks) {
+    }
+}
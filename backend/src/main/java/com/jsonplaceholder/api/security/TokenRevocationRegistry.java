@@ -0,0 +1,141 @@
+package com.jsonplaceholder.api.security;
+
+import com.jsonplaceholder.api.config.ReplicaRouting;
+import com.jsonplaceholder.api.model.TokenRevocation;
+import com.jsonplaceholder.api.repository.TokenRevocationRepository;
+import com.jsonplaceholder.api.service.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user token epochs. Tokens carry the epoch that was current when they were issued and are
+ * rejected once the user's epoch moves past it. Only users revoked within the last token lifetime
+ * are kept, because anything issued before that has already expired.
+ * <p>
+ * Revocations are written to {@code token_revocations}, loaded at startup and polled every
+ * {@code jwt.revocation.poll-interval}, so they survive restarts and reach the other instances. A token's epoch is
+ * read from the table when it is issued, so a token issued here before the poll has brought in a revocation made
+ * elsewhere is not rejected once it does.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    // revocations committed while a poll was running carry an earlier timestamp than the poll
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+    private final long tokenLifetimeMillis;
+    private final TokenRevocationRepository repository;
+    private Instant loadedAt;
+
+    public TokenRevocationRegistry(long tokenLifetimeMillis) {
+        this(tokenLifetimeMillis, null);
+    }
+
+    @Autowired
+    public TokenRevocationRegistry(@Value("${jwt.expiration}") long tokenLifetimeMillis,
+                                   TokenRevocationRepository repository) {
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+        this.repository = repository;
+    }
+
+    public long currentEpoch(String username) {
+        return epochs.getOrDefault(username, 0L);
+    }
+
+    /**
+     * The epoch to put into a token issued now: one primary-key lookup, on the primary, which also brings this
+     * instance up to date for the user.
+     */
+    public long issuingEpoch(String username) {
+        if (repository != null) {
+            long oldestLive = System.currentTimeMillis() - tokenLifetimeMillis;
+            ReplicaRouting.onPrimary(() -> repository.findById(username))
+                    .map(revocation -> revocation.getRevokedAt().toEpochMilli())
+                    .filter(epoch -> epoch >= oldestLive)
+                    .ifPresent(epoch -> epochs.merge(username, epoch, Math::max));
+        }
+        return currentEpoch(username);
+    }
+
+    public boolean isRevoked(String username, long tokenEpoch) {
+        Long epoch = epochs.get(username);
+        return epoch != null && tokenEpoch < epoch;
+    }
+
+    public void revoke(String username) {
+        revoke(username, System.currentTimeMillis());
+    }
+
+    public int size() {
+        return epochs.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.CREATED) {
+            return;
+        }
+        if (event.isCredentialsChanged() || event.usernameChanged()) {
+            String username = event.getPreviousUsername() != null
+                    ? event.getPreviousUsername() : event.getUser().getUsername();
+            revoke(username);
+            if (repository != null) {
+                TokenRevocation revocation = new TokenRevocation();
+                revocation.setUsername(username);
+                revocation.setRevokedAt(Instant.ofEpochMilli(currentEpoch(username)));
+                repository.save(revocation);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadRevocations() {
+        reload();
+    }
+
+    /**
+     * Picks up revocations made by other instances and drops rows that can no longer match a live token.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval:30000}",
+            initialDelayString = "${jwt.revocation.poll-interval:30000}")
+    @Transactional
+    public void pollRevocations() {
+        reload();
+    }
+
+    private synchronized void reload() {
+        if (repository == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        Instant oldestLive = now.minusMillis(tokenLifetimeMillis);
+        Instant since = loadedAt != null && loadedAt.minus(POLL_OVERLAP).isAfter(oldestLive)
+                ? loadedAt.minus(POLL_OVERLAP) : oldestLive;
+        repository.deleteRevokedBefore(oldestLive);
+        for (TokenRevocation revocation : repository.findByRevokedAtGreaterThanEqual(since)) {
+            revoke(revocation.getUsername(), revocation.getRevokedAt().toEpochMilli());
+        }
+        loadedAt = now;
+    }
+
+    private void revoke(String username, long epoch) {
+        long expired = System.currentTimeMillis() - tokenLifetimeMillis;
+        epochs.values().removeIf(existing -> existing < expired);
+        epochs.merge(username, epoch, Math::max);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jsonplaceholder.api.security;
+
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Value
+public class ValidatedToken {
+    String username;
+    Instant expiresAt;
+    List<GrantedAuthority> authorities;
+    long epoch;
+    UUID sessionId;
+
+    public boolean hasAuthorities() {
+        return authorities != null;
+    }
+}
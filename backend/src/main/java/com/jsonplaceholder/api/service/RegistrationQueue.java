@@ -0,0 +1,236 @@
+package com.jsonplaceholder.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jsonplaceholder.api.model.RegistrationStatus;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserIdentity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Asynchronous registrations. Requests wait in a bounded queue and are registered in batches by a single
+ * flusher thread: one query finds every username and email of the batch that is already taken, the passwords
+ * are hashed in parallel on the password hashing pool, and the survivors are inserted with JDBC batching. If
+ * the batch still hits a unique constraint (a concurrent registration won the race), it is retried one user
+ * at a time so only the loser is rejected. A flush is scheduled only when none is pending, so a burst of
+ * submissions costs one flush task rather than one each. Outcomes are kept for {@code auth.registration.status-ttl}.
+ */
+@Component
+public class RegistrationQueue {
+
+    static final String USERNAME_TAKEN = "Username is already taken!";
+    static final String EMAIL_TAKEN = "Email is already in use!";
+    static final String CONFLICT = "Username or email is already in use!";
+    static final String FAILED = "Registration failed, please retry";
+
+    private final UserService userService;
+    private final boolean asyncByDefault;
+    private final int batchSize;
+    private final BlockingQueue<Pending> pending;
+    private final Cache<String, RegistrationStatus> statuses;
+    private final ThreadPoolExecutor flusher;
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    private final Counter created;
+    private final Counter rejected;
+    private final Counter refused;
+
+    public RegistrationQueue(UserService userService,
+                             @Value("${auth.registration.async:false}") boolean asyncByDefault,
+                             @Value("${auth.registration.queue-capacity:10000}") int queueCapacity,
+                             @Value("${auth.registration.batch-size:50}") int batchSize,
+                             @Value("${auth.registration.status-ttl:15m}") Duration statusTtl,
+                             MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.asyncByDefault = asyncByDefault;
+        this.batchSize = batchSize;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .maximumSize(Math.max(100_000, queueCapacity * 2L))
+                .build();
+        this.flusher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "registration-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("auth.registration.queue.size", pending, BlockingQueue::size)
+                .description("Registrations waiting to be flushed")
+                .register(meterRegistry);
+        this.created = registrations(meterRegistry, "created");
+        this.rejected = registrations(meterRegistry, "rejected");
+        this.refused = registrations(meterRegistry, "queue_full");
+    }
+
+    /**
+     * Whether {@code POST /api/auth/register} queues registrations even when the client did not ask for it.
+     */
+    public boolean isAsyncByDefault() {
+        return asyncByDefault;
+    }
+
+    /**
+     * Queues the registration and returns its ticket.
+     *
+     * @throws RegistrationQueueFullException when the queue is at capacity
+     */
+    public RegistrationStatus submit(User user) {
+        String ticket = UUID.randomUUID().toString();
+        RegistrationStatus status = RegistrationStatus.pending(ticket);
+        // recorded first, so the flusher's outcome can never be overwritten by it
+        statuses.put(ticket, status);
+        if (!pending.offer(new Pending(ticket, user, user.getPassword()))) {
+            statuses.invalidate(ticket);
+            refused.increment();
+            throw new RegistrationQueueFullException();
+        }
+        if (flushPending.compareAndSet(false, true)) {
+            flusher.execute(this::runPendingFlush);
+        }
+        return status;
+    }
+
+    public Optional<RegistrationStatus> status(String ticket) {
+        return Optional.ofNullable(statuses.getIfPresent(ticket));
+    }
+
+    /**
+     * Registers everything queued so far, in batches. Runs on the flusher thread; tests call it directly.
+     */
+    void flush() {
+        synchronized (flushLock) {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            while (pending.drainTo(batch, batchSize) > 0) {
+                try {
+                    register(batch);
+                } catch (RuntimeException e) {
+                    batch.stream().filter(this::isPending).forEach(item -> reject(item, FAILED));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    int queuedFlushes() {
+        return flusher.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // let queued batches finish while the database is still available
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void runPendingFlush() {
+        // cleared before draining: anything queued from here on either gets drained now or schedules a new flush
+        flushPending.set(false);
+        flush();
+    }
+
+    private void register(List<Pending> batch) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (Pending item : batch) {
+            addIfPresent(usernames, item.user().getUsername());
+            addIfPresent(emails, item.user().getEmail());
+        }
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (UserIdentity identity : userService.findIdentitiesByUsernamesOrEmails(usernames, emails)) {
+            addIfPresent(takenUsernames, identity.getUsername());
+            addIfPresent(takenEmails, identity.getEmail());
+        }
+
+        // the first registration in the batch wins a username or email, as it would have in arrival order
+        List<Pending> accepted = new ArrayList<>(batch.size());
+        for (Pending item : batch) {
+            String username = item.user().getUsername();
+            String email = item.user().getEmail();
+            if (username != null && takenUsernames.contains(username)) {
+                reject(item, USERNAME_TAKEN);
+            } else if (email != null && takenEmails.contains(email)) {
+                reject(item, EMAIL_TAKEN);
+            } else {
+                addIfPresent(takenUsernames, username);
+                addIfPresent(takenEmails, email);
+                accepted.add(item);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<User> users = userService.createUsers(accepted.stream().map(Pending::user).toList());
+            for (int i = 0; i < users.size(); i++) {
+                complete(accepted.get(i), users.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            accepted.forEach(this::registerAlone);
+        }
+    }
+
+    private void registerAlone(Pending item) {
+        User user = item.user();
+        user.setId(null);
+        user.setVersion(null);
+        user.setPassword(item.rawPassword());
+        try {
+            complete(item, userService.createUser(user));
+        } catch (DataIntegrityViolationException e) {
+            reject(item, CONFLICT);
+        }
+    }
+
+    private boolean isPending(Pending item) {
+        RegistrationStatus status = statuses.getIfPresent(item.ticket());
+        return status != null && status.getState() == RegistrationStatus.State.PENDING;
+    }
+
+    private void complete(Pending item, User user) {
+        statuses.put(item.ticket(), RegistrationStatus.created(item.ticket(), user.getId()));
+        created.increment();
+    }
+
+    private void reject(Pending item, String reason) {
+        statuses.put(item.ticket(), RegistrationStatus.rejected(item.ticket(), reason));
+        rejected.increment();
+    }
+
+    private static void addIfPresent(Set<String> values, String value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    private static Counter registrations(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.registration.async")
+                .description("Queued registrations by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Pending(String ticket, User user, String rawPassword) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.jsonplaceholder.api.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class RegistrationQueueFullException extends ResponseStatusException {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    public RegistrationQueueFullException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Registration queue is full, retry shortly");
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return headers;
+    }
+}
@@ -0,0 +1,273 @@
+package com.jsonplaceholder.api.service;
+
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserSuggestion;
+import com.jsonplaceholder.api.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over usernames and names for autocomplete, built from the database once the
+ * application is ready and kept current from {@link UserChangedEvent}s.
+ * <p>
+ * Keys (the username, the full name and every later word of the name, lower-cased) are stored as UTF-8 bytes
+ * packed into one sorted array, with an offsets array and a parallel id array, so an entry costs its key bytes
+ * plus twelve. Readers binary-search an immutable snapshot without locking. Changes are queued after commit and
+ * merged into a new snapshot by a single indexer thread, so a burst of writes costs one linear merge.
+ */
+@Component
+public class UserAutocompleteIndex {
+
+    private static final Comparator<Entry> ENTRY_ORDER = (a, b) -> {
+        int byKey = Arrays.compareUnsigned(a.key(), b.key());
+        return byKey != 0 ? byKey : Long.compare(a.id(), b.id());
+    };
+
+    private final UserRepository userRepository;
+    private final ExecutorService indexer;
+    private final Queue<Change> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Long, UserSuggestion> users = new ConcurrentHashMap<>();
+    private final Object mergeLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean built;
+
+    public UserAutocompleteIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.indexer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-autocomplete-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Up to {@code limit} distinct users with a key starting with {@code prefix}, in key order.
+     */
+    public List<UserSuggestion> complete(String prefix, int limit) {
+        byte[] key = normalize(prefix).getBytes(StandardCharsets.UTF_8);
+        if (key.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        Set<Long> seen = new LinkedHashSet<>();
+        List<UserSuggestion> matches = new ArrayList<>(limit);
+        for (int i = current.lowerBound(key); i < current.size() && current.startsWith(i, key)
+                && matches.size() < limit; i++) {
+            long id = current.ids[i];
+            if (seen.add(id)) {
+                UserSuggestion user = users.get(id);
+                if (user != null) {
+                    matches.add(user);
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Long, UserSuggestion> loaded = new HashMap<>();
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<UserSuggestion> suggestions = userRepository.streamSuggestions()) {
+            suggestions.forEach(user -> {
+                loaded.put(user.getId(), user);
+                addEntries(entries, user);
+            });
+        }
+        entries.sort(ENTRY_ORDER);
+        synchronized (mergeLock) {
+            users.clear();
+            users.putAll(loaded);
+            snapshot = merge(Snapshot.EMPTY, entries, Set.of());
+            built = true;
+        }
+        // apply whatever changed while the table was being read
+        flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        UserSuggestion suggestion = event.getType() == UserChangedEvent.Type.DELETED
+                ? null
+                : new UserSuggestion(user.getId(), user.getUsername(), user.getName());
+        pending.add(new Change(user.getId(), suggestion));
+        indexer.execute(this::flush);
+    }
+
+    /**
+     * Merges every queued change into a new snapshot. Runs on the indexer thread; callers that need to read
+     * their own writes (tests) may call it directly.
+     */
+    void flush() {
+        synchronized (mergeLock) {
+            if (!built) {
+                return;
+            }
+            Map<Long, UserSuggestion> latest = new LinkedHashMap<>();
+            for (Change change = pending.poll(); change != null; change = pending.poll()) {
+                latest.put(change.id(), change.user());
+            }
+            if (latest.isEmpty()) {
+                return;
+            }
+            List<Entry> added = new ArrayList<>();
+            latest.forEach((id, user) -> {
+                if (user != null) {
+                    users.put(id, user);
+                    addEntries(added, user);
+                }
+            });
+            added.sort(ENTRY_ORDER);
+            snapshot = merge(snapshot, added, latest.keySet());
+            latest.forEach((id, user) -> {
+                if (user == null) {
+                    users.remove(id);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    /**
+     * Linear merge of the base snapshot, minus every entry of {@code replacedIds}, with the sorted new entries.
+     */
+    private static Snapshot merge(Snapshot base, List<Entry> added, Set<Long> replacedIds) {
+        int addedBytes = added.stream().mapToInt(entry -> entry.key().length).sum();
+        byte[] keys = new byte[base.keys.length + addedBytes];
+        int[] offsets = new int[base.size() + added.size() + 1];
+        long[] ids = new long[base.size() + added.size()];
+
+        int count = 0;
+        int position = 0;
+        int i = 0;
+        int j = 0;
+        while (i < base.size() || j < added.size()) {
+            if (i < base.size() && replacedIds.contains(base.ids[i])) {
+                i++;
+                continue;
+            }
+            boolean takeBase = j == added.size()
+                    || (i < base.size() && base.compare(i, added.get(j)) <= 0);
+            int length;
+            if (takeBase) {
+                length = base.offsets[i + 1] - base.offsets[i];
+                System.arraycopy(base.keys, base.offsets[i], keys, position, length);
+                ids[count] = base.ids[i++];
+            } else {
+                Entry entry = added.get(j++);
+                length = entry.key().length;
+                System.arraycopy(entry.key(), 0, keys, position, length);
+                ids[count] = entry.id();
+            }
+            offsets[count] = position;
+            position += length;
+            offsets[++count] = position;
+        }
+        return new Snapshot(Arrays.copyOf(keys, position), Arrays.copyOf(offsets, count + 1), Arrays.copyOf(ids, count));
+    }
+
+    private static void addEntries(List<Entry> entries, UserSuggestion user) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (user.getUsername() != null) {
+            keys.add(normalize(user.getUsername()));
+        }
+        if (user.getName() != null) {
+            String name = normalize(user.getName());
+            keys.add(name);
+            String[] words = name.split("\\s+");
+            for (int w = 1; w < words.length; w++) {
+                keys.add(words[w]);
+            }
+        }
+        for (String key : keys) {
+            if (!key.isEmpty()) {
+                entries.add(new Entry(key.getBytes(StandardCharsets.UTF_8), user.getId()));
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(byte[] key, long id) {
+    }
+
+    private record Change(long id, UserSuggestion user) {
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new byte[0], new int[] {0}, new long[0]);
+
+        final byte[] keys;
+        final int[] offsets;
+        final long[] ids;
+
+        Snapshot(byte[] keys, int[] offsets, long[] ids) {
+            this.keys = keys;
+            this.offsets = offsets;
+            this.ids = ids;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int lowerBound(byte[] key) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (Arrays.compareUnsigned(keys, offsets[mid], offsets[mid + 1], key, 0, key.length) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        boolean startsWith(int index, byte[] prefix) {
+            int from = offsets[index];
+            return offsets[index + 1] - from >= prefix.length
+                    && Arrays.equals(keys, from, from + prefix.length, prefix, 0, prefix.length);
+        }
+
+        int compare(int index, Entry entry) {
+            int byKey = Arrays.compareUnsigned(keys, offsets[index], offsets[index + 1], entry.key(), 0, entry.key().length);
+            return byKey != 0 ? byKey : Long.compare(ids[index], entry.id());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jsonplaceholder.api.service;
+
+import com.jsonplaceholder.api.model.User;
+import lombok.Value;
+
+@Value
+public class UserChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    Type type;
+    User user;
+    String previousUsername;
+    boolean credentialsChanged;
+
+    public static UserChangedEvent created(User user) {
+        return new UserChangedEvent(Type.CREATED, user, null, false);
+    }
+
+    public static UserChangedEvent updated(User user, String previousUsername, boolean credentialsChanged) {
+        return new UserChangedEvent(Type.UPDATED, user, previousUsername, credentialsChanged);
+    }
+
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(Type.DELETED, user, user.getUsername(), true);
+    }
+
+    public boolean usernameChanged() {
+        return previousUsername != null && !previousUsername.equals(user.getUsername());
+    }
+}
@@ -0,0 +1,222 @@
+package com.jsonplaceholder.api.service;
+
+import com.jsonplaceholder.api.model.Address;
+import com.jsonplaceholder.api.model.NearbyUser;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserLocation;
+import com.jsonplaceholder.api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory grid index over user coordinates for radius and k-nearest queries. The globe is cut into cells of
+ * {@code users.geo.cell-degrees} on each side; a query visits only the cells overlapping the bounding box of
+ * its search circle and computes great-circle distances for the users in them.
+ * <p>
+ * Built from the database once the application is ready and kept current from {@link UserChangedEvent}s,
+ * like {@link UserAutocompleteIndex}.
+ */
+@Component
+public class UserGeoIndex {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    private static final double MAX_DISTANCE_KM = Math.PI * EARTH_RADIUS_KM;
+
+    private final UserRepository userRepository;
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, UserLocation> locations = new ConcurrentHashMap<>();
+    private final Queue<Change> pending = new ConcurrentLinkedQueue<>();
+    private volatile boolean built;
+
+    public UserGeoIndex(UserRepository userRepository,
+                        @Value("${users.geo.cell-degrees:0.25}") double cellDegrees) {
+        this.userRepository = userRepository;
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    /**
+     * Users within {@code radiusKm} of the point, nearest first, at most {@code limit} of them.
+     */
+    public List<NearbyUser> within(double lat, double lng, double radiusKm, int limit) {
+        List<NearbyUser> matches = new ArrayList<>();
+        forEachCandidate(lat, lng, radiusKm, location -> {
+            double distance = distanceKm(lat, lng, location.getLat(), location.getLng());
+            if (distance <= radiusKm) {
+                matches.add(new NearbyUser(location, distance));
+            }
+        });
+        matches.sort(Comparator.comparingDouble(NearbyUser::getDistanceKm));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * The {@code k} users nearest to the point. Searches a circle of one cell and doubles it until it holds
+     * {@code k} users; everyone outside the circle is farther than everyone inside, so the result is exact.
+     */
+    public List<NearbyUser> nearest(double lat, double lng, int k) {
+        double radiusKm = cellDegrees * KM_PER_DEGREE;
+        while (true) {
+            List<NearbyUser> found = within(lat, lng, radiusKm, k);
+            if (found.size() >= k || found.size() >= locations.size() || radiusKm >= MAX_DISTANCE_KM) {
+                return found;
+            }
+            radiusKm = Math.min(radiusKm * 2, MAX_DISTANCE_KM);
+        }
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<UserLocation> loaded;
+        try (Stream<UserLocation> stream = userRepository.streamLocations()) {
+            loaded = stream.filter(UserGeoIndex::isValid).toList();
+        }
+        synchronized (this) {
+            cells.clear();
+            locations.clear();
+            loaded.forEach(this::add);
+            built = true;
+        }
+        // apply whatever changed while the table was being read
+        applyPending();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        pending.add(new Change(user.getId(),
+                event.getType() == UserChangedEvent.Type.DELETED ? null : locationOf(user)));
+        applyPending();
+    }
+
+    static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private synchronized void applyPending() {
+        if (!built) {
+            return;
+        }
+        for (Change change = pending.poll(); change != null; change = pending.poll()) {
+            remove(change.id());
+            if (change.location() != null) {
+                add(change.location());
+            }
+        }
+    }
+
+    private void add(UserLocation location) {
+        locations.put(location.getId(), location);
+        cells.computeIfAbsent(cellOf(location.getLat(), location.getLng()), cell -> ConcurrentHashMap.newKeySet())
+                .add(location.getId());
+    }
+
+    private void remove(long id) {
+        UserLocation previous = locations.remove(id);
+        if (previous != null) {
+            long cell = cellOf(previous.getLat(), previous.getLng());
+            cells.computeIfPresent(cell, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Visits the users in every cell overlapping the bounding box of the circle (longitude span from the
+     * spherical bounding-coordinates formula). When the box covers more cells than are occupied, scanning all
+     * users is cheaper, and the distance filter keeps the answer the same.
+     */
+    private void forEachCandidate(double lat, double lng, double radiusKm, Consumer<UserLocation> action) {
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double latSpan = Math.toDegrees(angularRadius);
+        int rowFrom = row(lat - latSpan);
+        int rowTo = row(lat + latSpan);
+        int columnFrom = 0;
+        int columnTo = columns - 1;
+        if (Math.abs(lat) + latSpan < 90) {
+            double lngSpan = Math.toDegrees(Math.asin(Math.min(1,
+                    Math.sin(angularRadius) / Math.cos(Math.toRadians(lat)))));
+            int from = (int) Math.floor((lng - lngSpan + 180) / cellDegrees);
+            int to = (int) Math.floor((lng + lngSpan + 180) / cellDegrees);
+            if (to - from + 1 < columns) {
+                columnFrom = from;
+                columnTo = to;
+            }
+        }
+        long boxCells = (long) (rowTo - rowFrom + 1) * (columnTo - columnFrom + 1);
+        if (boxCells > cells.size()) {
+            locations.values().forEach(action);
+            return;
+        }
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int column = columnFrom; column <= columnTo; column++) {
+                Set<Long> ids = cells.get((long) row * columns + Math.floorMod(column, columns));
+                if (ids != null) {
+                    for (Long id : ids) {
+                        UserLocation location = locations.get(id);
+                        if (location != null) {
+                            action.accept(location);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private long cellOf(double lat, double lng) {
+        int column = Math.floorMod((int) Math.floor((lng + 180) / cellDegrees), columns);
+        return (long) row(lat) * columns + column;
+    }
+
+    private int row(double lat) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((lat + 90) / cellDegrees)));
+    }
+
+    private static UserLocation locationOf(User user) {
+        Address address = user.getAddress();
+        if (address == null || address.getGeo() == null
+                || address.getGeo().getLat() == null || address.getGeo().getLng() == null) {
+            return null;
+        }
+        UserLocation location = new UserLocation(user.getId(), user.getUsername(), user.getName(),
+                address.getGeo().getLat(), address.getGeo().getLng());
+        return isValid(location) ? location : null;
+    }
+
+    private static boolean isValid(UserLocation location) {
+        return Math.abs(location.getLat()) <= 90 && Math.abs(location.getLng()) <= 180;
+    }
+
+    private record Change(long id, UserLocation location) {
+    }
+}
@@ -1,15 +1,35 @@
 package com.jsonplaceholder.api.service;
 
+import com.jsonplaceholder.api.model.CursorPage;
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserField;
+import com.jsonplaceholder.api.model.UserFieldsRow;
+import com.jsonplaceholder.api.model.UserIdentity;
+import com.jsonplaceholder.api.model.UserSearch;
+import com.jsonplaceholder.api.model.UserVersion;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface UserService {
     List<User> getAllUsers();
+    CursorPage<User> getUsersPage(Long after, int limit);
+    CursorPage<UserVersion> getUserVersionsPage(Long after, int limit);
+    CursorPage<UserFieldsRow> getUserFieldsPage(Set<UserField> fields, Long after, int limit);
+    CursorPage<User> searchUsers(UserSearch search, Long after, int limit);
+    long exportUsers(Consumer<User> sink);
     Optional<User> getUserById(Long id);
+    Optional<Long> getUserVersion(Long id);
     User createUser(User user);
     User updateUser(Long id, User user);
     void deleteUser(Long id);
+    List<User> createUsers(List<User> users);
+    List<User> updateUsers(List<User> users);
+    void deleteUsers(List<Long> ids);
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
+    List<UserIdentity> findIdentitiesByUsernameOrEmail(String username, String email);
+    List<UserIdentity> findIdentitiesByUsernamesOrEmails(Collection<String> usernames, Collection<String> emails);
 } 
\ No newline at end of file
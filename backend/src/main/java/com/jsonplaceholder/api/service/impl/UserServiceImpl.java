@@ -1,14 +1,37 @@
 package com.jsonplaceholder.api.service.impl;
 
+import com.jsonplaceholder.api.model.CursorPage;
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserField;
+import com.jsonplaceholder.api.model.UserFieldsRow;
+import com.jsonplaceholder.api.model.UserIdentity;
+import com.jsonplaceholder.api.model.UserSearch;
+import com.jsonplaceholder.api.model.UserVersion;
 import com.jsonplaceholder.api.repository.UserRepository;
+import com.jsonplaceholder.api.repository.UserSpecifications;
+import com.jsonplaceholder.api.security.BoundedPasswordEncoder;
+import com.jsonplaceholder.api.service.UserChangedEvent;
 import com.jsonplaceholder.api.service.UserService;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -16,55 +39,219 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(limit + 1));
+        return toPage(users, limit, User::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserVersion> getUserVersionsPage(Long after, int limit) {
+        List<UserVersion> versions = userRepository.findVersionsByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after, Limit.of(limit + 1));
+        return toPage(versions, limit, UserVersion::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserFieldsRow> getUserFieldsPage(Set<UserField> fields, Long after, int limit) {
+        List<UserFieldsRow> rows = userRepository.findFieldsByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after, fields, Limit.of(limit + 1));
+        return toPage(rows, limit, UserFieldsRow::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<User> searchUsers(UserSearch search, Long after, int limit) {
+        List<User> users = userRepository.findBy(UserSpecifications.matching(search, after),
+                query -> query.sortBy(Sort.by("id")).limit(limit + 1).all());
+        return toPage(users, limit, User::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(Consumer<User> sink) {
+        long count = 0;
+        // a full scan would otherwise put every user into the second-level cache and push out the hot ones; a
+        // cache-mode query hint is not enough, as it is reset once the stream opens, before its rows are loaded
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        try (Stream<User> users = userRepository.streamAll()) {
+            for (User user : (Iterable<User>) users::iterator) {
+                sink.accept(user);
+                entityManager.detach(user);
+                count++;
+            }
+        } finally {
+            entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.USE);
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getUserVersion(Long id) {
+        return userRepository.findVersionById(id);
+    }
+
     @Override
     public User createUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        user.setVersion(null);
+        User created = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(created));
+        return created;
     }
 
     @Override
     public User updateUser(Long id, User user) {
         return userRepository.findById(id)
                 .map(existingUser -> {
+                    String previousUsername = existingUser.getUsername();
+                    boolean passwordChanged = user.getPassword() != null && !user.getPassword().isEmpty();
                     user.setId(id);
-                    if (user.getPassword() != null && !user.getPassword().isEmpty()) {
+                    if (user.getVersion() == null) {
+                        // no precondition from the client: last write wins, as before versioning
+                        user.setVersion(existingUser.getVersion());
+                    }
+                    if (passwordChanged) {
                         user.setPassword(passwordEncoder.encode(user.getPassword()));
                     } else {
                         user.setPassword(existingUser.getPassword());
                     }
-                    return userRepository.save(user);
+                    User updated = userRepository.save(user);
+                    eventPublisher.publishEvent(UserChangedEvent.updated(updated, previousUsername, passwordChanged));
+                    return updated;
                 })
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
     }
 
     @Override
     public void deleteUser(Long id) {
+        Optional<User> existing = userRepository.findById(id);
         userRepository.deleteById(id);
+        existing.ifPresent(user -> eventPublisher.publishEvent(UserChangedEvent.deleted(user)));
+    }
+
+    @Override
+    public List<User> createUsers(List<User> users) {
+        List<String> encoded = encodeAll(users.stream().map(User::getPassword).toList());
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setId(null);
+            users.get(i).setVersion(null);
+            users.get(i).setPassword(encoded.get(i));
+        }
+        List<User> created = userRepository.saveAll(users);
+        created.forEach(user -> eventPublisher.publishEvent(UserChangedEvent.created(user)));
+        return created;
+    }
+
+    @Override
+    public List<User> updateUsers(List<User> users) {
+        Map<Long, User> existing = userRepository.findAllById(users.stream().map(User::getId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<User> withNewPassword = new ArrayList<>();
+        List<String> previousUsernames = new ArrayList<>(users.size());
+        boolean[] passwordChanged = new boolean[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            User existingUser = existing.get(user.getId());
+            if (existingUser == null) {
+                throw new RuntimeException("User not found with id: " + user.getId());
+            }
+            previousUsernames.add(existingUser.getUsername());
+            if (user.getVersion() == null) {
+                user.setVersion(existingUser.getVersion());
+            }
+            passwordChanged[i] = user.getPassword() != null && !user.getPassword().isEmpty();
+            if (passwordChanged[i]) {
+                withNewPassword.add(user);
+            } else {
+                user.setPassword(existingUser.getPassword());
+            }
+        }
+
+        List<String> encoded = encodeAll(withNewPassword.stream().map(User::getPassword).toList());
+        for (int i = 0; i < withNewPassword.size(); i++) {
+            withNewPassword.get(i).setPassword(encoded.get(i));
+        }
+
+        List<User> updated = userRepository.saveAll(users);
+        for (int i = 0; i < updated.size(); i++) {
+            eventPublisher.publishEvent(UserChangedEvent.updated(
+                    updated.get(i), previousUsernames.get(i), passwordChanged[i]));
+        }
+        return updated;
+    }
+
+    @Override
+    public void deleteUsers(List<Long> ids) {
+        List<User> existing = userRepository.findAllById(ids);
+        userRepository.deleteAllByIdInBatch(ids);
+        existing.forEach(user -> eventPublisher.publishEvent(UserChangedEvent.deleted(user)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
-} 
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserIdentity> findIdentitiesByUsernameOrEmail(String username, String email) {
+        return userRepository.findIdentitiesByUsernameOrEmail(username, email);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserIdentity> findIdentitiesByUsernamesOrEmails(Collection<String> usernames,
+                                                                Collection<String> emails) {
+        return userRepository.findIdentitiesByUsernameInOrEmailIn(usernames, emails);
+    }
+
+    private static <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new CursorPage<>(page, idOf.apply(page.get(limit - 1)));
+    }
+
+    private List<String> encodeAll(List<String> rawPasswords) {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedEncoder) {
+            return boundedEncoder.encodeAll(rawPasswords);
+        }
+        return rawPasswords.stream().map(passwordEncoder::encode).toList();
+    }
+}
@@ -0,0 +1,25 @@
+-- Matches the User entity mapping; "if not exists" lets databases created by the old
+-- ddl-auto=update setup be baselined and brought under Flyway without a manual step.
+create sequence if not exists users_seq start with 1 increment by 50;
+
+create table if not exists users (
+    id           bigint       not null primary key,
+    name         varchar(255),
+    username     varchar(255),
+    email        varchar(255),
+    password     varchar(255),
+    street       varchar(255),
+    suite        varchar(255),
+    city         varchar(255),
+    zipcode      varchar(255),
+    lat          varchar(255),
+    lng          varchar(255),
+    phone        varchar(255),
+    website      varchar(255),
+    company_name varchar(255),
+    catch_phrase varchar(255),
+    bs           varchar(255)
+);
+
+create unique index if not exists ux_users_username on users (username);
+create unique index if not exists ux_users_email on users (email);
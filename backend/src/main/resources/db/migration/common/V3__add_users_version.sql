@@ -0,0 +1,2 @@
+-- Optimistic-lock version for User; existing rows start at 0.
+alter table users add column if not exists version bigint default 0 not null;
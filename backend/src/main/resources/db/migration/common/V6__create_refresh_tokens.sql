@@ -0,0 +1,17 @@
+-- Refresh tokens, stored as SHA-256 digests. A family is one login and every rotation of it.
+create sequence if not exists refresh_tokens_seq start with 1 increment by 50;
+
+create table if not exists refresh_tokens (
+    id         bigint                   not null primary key,
+    token_hash varchar(64)              not null,
+    family_id  uuid                     not null,
+    user_id    bigint                   not null references users (id) on delete cascade,
+    expires_at timestamp with time zone not null,
+    used_at    timestamp with time zone,
+    revoked_at timestamp with time zone
+);
+
+create unique index if not exists ux_refresh_tokens_token_hash on refresh_tokens (token_hash);
+create index if not exists ix_refresh_tokens_family_id on refresh_tokens (family_id);
+create index if not exists ix_refresh_tokens_user_id on refresh_tokens (user_id);
+create index if not exists ix_refresh_tokens_revoked_at on refresh_tokens (revoked_at);
@@ -0,0 +1,10 @@
+-- ES256 signing keys shared by all instances. Private keys are AES-GCM encrypted with a key derived from
+-- jwt.secret; public keys are X.509, base64. Rows are deleted once expires_at has passed.
+create table if not exists jwt_signing_keys (
+    kid          varchar(64)              not null primary key,
+    public_key   varchar(1024)            not null,
+    private_key  varchar(1024)            not null,
+    activates_at timestamp with time zone not null,
+    retires_at   timestamp with time zone not null,
+    expires_at   timestamp with time zone not null
+);
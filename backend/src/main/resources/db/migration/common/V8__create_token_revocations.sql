@@ -0,0 +1,8 @@
+-- Latest token revocation per username (password change, rename, delete). Access tokens carrying an
+-- earlier epoch are rejected; rows older than one access-token lifetime are deleted.
+create table if not exists token_revocations (
+    username   varchar(255)             not null primary key,
+    revoked_at timestamp with time zone not null
+);
+
+create index if not exists ix_token_revocations_revoked_at on token_revocations (revoked_at);
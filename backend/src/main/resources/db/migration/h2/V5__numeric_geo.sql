@@ -0,0 +1,2 @@
+alter table users alter column lat set data type double precision;
+alter table users alter column lng set data type double precision;
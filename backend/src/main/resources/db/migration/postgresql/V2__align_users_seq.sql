@@ -0,0 +1,3 @@
+-- Rows inserted before the switch to a pooled sequence used IDENTITY ids; move users_seq past them.
+select setval('users_seq', (select max(id) from users) + 50)
+where exists (select 1 from users);
@@ -0,0 +1,7 @@
+-- Functional indexes for GET /api/users/search. Each filter compares lower(column); the trailing id serves
+-- the keyset order (id > :after order by id) from the index. text_pattern_ops lets the name prefix LIKE use
+-- the index regardless of the database collation. Built concurrently so large tables stay writable.
+create index concurrently if not exists ix_users_lower_name on users (lower(name) text_pattern_ops, id);
+create index concurrently if not exists ix_users_lower_city on users (lower(city), id);
+create index concurrently if not exists ix_users_lower_company_name on users (lower(company_name), id);
+create index concurrently if not exists ix_users_lower_website on users (lower(website), id);
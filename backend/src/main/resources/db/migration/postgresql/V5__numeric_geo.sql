@@ -0,0 +1,6 @@
+-- Coordinates were free-form strings; anything that does not parse as a decimal number becomes null.
+alter table users
+    alter column lat type double precision
+        using case when lat ~ '^\s*[-+]?([0-9]+\.?[0-9]*|\.[0-9]+)\s*$' then lat::double precision end,
+    alter column lng type double precision
+        using case when lng ~ '^\s*[-+]?([0-9]+\.?[0-9]*|\.[0-9]+)\s*$' then lng::double precision end;
@@ -0,0 +1,39 @@
+-- Sample users, applied only with the "seed" profile. Safe to re-run.
+insert into users (id, name, username, email, password, street, suite, city, zipcode, lat, lng,
+                   phone, website, company_name, catch_phrase, bs)
+select nextval('users_seq'), s.name, s.username, s.email, s.password, s.street, s.suite, s.city, s.zipcode,
+       cast(s.lat as double precision), cast(s.lng as double precision), s.phone, s.website,
+       s.company_name, s.catch_phrase, s.bs
+from (
+    select 'Leanne Graham' as name, 'Bret' as username, 'Sincere@april.biz' as email,
+           '$2a$10$rDkPvvAFV6GgJkKq8XxKXe6XxKXe6XxKXe6XxKXe6XxKXe6XxKXe' as password,
+           'Kulas Light' as street, 'Apt. 556' as suite, 'Gwenborough' as city, '92998-3874' as zipcode,
+           '-37.3159' as lat, '81.1496' as lng, '1-770-736-8031 x56442' as phone, 'hildegard.org' as website,
+           'Romaguera-Crona' as company_name, 'Multi-layered client-server neural-net' as catch_phrase,
+           'harness real-time e-markets' as bs
+    union all
+    select 'Ervin Howell', 'Antonette', 'Shanna@melissa.tv',
+           '$2a$10$rDkPvvAFV6GgJkKq8XxKXe6XxKXe6XxKXe6XxKXe6XxKXe6XxKXe',
+           'Victor Plains', 'Suite 879', 'Wisokyburgh', '90566-7771',
+           '-43.9509', '-34.4618', '010-692-6593 x09125', 'anastasia.net',
+           'Deckow-Crist', 'Proactive didactic contingency', 'synergize scalable supply-chains'
+    union all
+    select 'Clementine Bauch', 'Samantha', 'Nathan@yesenia.net',
+           '$2a$10$rDkPvvAFV6GgJkKq8XxKXe6XxKXe6XxKXe6XxKXe6XxKXe6XxKXe',
+           'Douglas Extension', 'Suite 847', 'McKenziehaven', '59590-4157',
+           '-68.6102', '-47.0653', '1-463-123-4447', 'ramiro.info',
+           'Romaguera-Jacobson', 'Face to face bifurcated interface', 'e-enable strategic applications'
+    union all
+    select 'Patricia Lebsack', 'Karianne', 'Julianne.OConner@kory.org',
+           '$2a$10$rDkPvvAFV6GgJkKq8XxKXe6XxKXe6XxKXe6XxKXe6XxKXe6XxKXe',
+           'Hoeger Mall', 'Apt. 692', 'South Elvis', '53919-4257',
+           '29.4572', '-164.2990', '493-170-9623 x156', 'kale.biz',
+           'Robel-Corkery', 'Multi-tiered zero tolerance productivity', 'transition cutting-edge web services'
+    union all
+    select 'Chelsey Dietrich', 'Kamren', 'Lucio_Hettinger@annie.ca',
+           '$2a$10$rDkPvvAFV6GgJkKq8XxKXe6XxKXe6XxKXe6XxKXe6XxKXe6XxKXe',
+           'Skiles Walks', 'Suite 351', 'Roscoeview', '33263',
+           '-31.8129', '62.5342', '(254)954-1289', 'demarco.info',
+           'Keebler LLC', 'User-centric fault-tolerant solution', 'revolutionize end-to-end systems'
+) s
+where not exists (select 1 from users u where u.username = s.username or u.email = s.email);
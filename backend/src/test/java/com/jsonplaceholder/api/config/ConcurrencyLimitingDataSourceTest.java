@@ -0,0 +1,100 @@
+package com.jsonplaceholder.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(20));
+    }
+
+    @Test
+    void getConnection_WhenPermitsExhausted_ShouldFailFast() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getAvailablePermits());
+        first.close();
+    }
+
+    @Test
+    void close_ShouldReleasePermitOnlyOnce() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+
+        // Assert
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+        assertNotNull(dataSource.getConnection());
+    }
+
+    @Test
+    void close_ShouldCloseTheTargetPool() throws Exception {
+        // Arrange
+        HikariDataSource pool = mock(HikariDataSource.class);
+        dataSource = new ConcurrencyLimitingDataSource(pool, 1, Duration.ofMillis(20));
+
+        // Act
+        dataSource.close();
+
+        // Assert
+        verify(pool).close();
+    }
+
+    @Test
+    void getConnection_WhenTargetFails_ShouldReleasePermit() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // Act & Assert
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void connection_ShouldDelegateCalls() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        doThrow(new SQLException("rollback failed")).when(connection).rollback();
+
+        // Act
+        Connection limited = dataSource.getConnection();
+
+        // Assert
+        assertFalse(limited.getAutoCommit());
+        assertThrows(SQLException.class, limited::rollback);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jsonplaceholder.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DatabaseConcurrencyConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(DatabaseConcurrencyConfig.class)
+            .withPropertyValues("spring.datasource.url=jdbc:h2:mem:concurrencydb",
+                    "spring.datasource.hikari.maximum-pool-size=3");
+
+    @Test
+    void dataSource_WithPermits_ShouldLimitTheConfiguredPoolAndCloseItOnShutdown() {
+        // Arrange
+        HikariDataSource[] pool = new HikariDataSource[1];
+
+        // Act
+        contextRunner.withPropertyValues("db.concurrency-limit.permits=6").run(context -> {
+            DataSource dataSource = context.getBean(DataSource.class);
+            assertInstanceOf(ConcurrencyLimitingDataSource.class, dataSource);
+            assertEquals(6, ((ConcurrencyLimitingDataSource) dataSource).getAvailablePermits());
+            pool[0] = dataSource.unwrap(HikariDataSource.class);
+            assertEquals(3, pool[0].getMaximumPoolSize());
+        });
+
+        // Assert
+        assertTrue(pool[0].isClosed());
+    }
+
+    @Test
+    void dataSource_WithoutPermits_ShouldLeaveTheAutoConfiguredPool() {
+        contextRunner.run(context ->
+                assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class)));
+    }
+}
@@ -1,6 +1,10 @@
 package com.jsonplaceholder.api.config;
 
+import com.jsonplaceholder.api.security.HmacSigningKeys;
 import com.jsonplaceholder.api.security.JwtTokenProvider;
+import com.jsonplaceholder.api.security.RevokedSessionIndex;
+import com.jsonplaceholder.api.security.TokenRevocationRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -15,8 +19,11 @@ public class TestSecurityConfig {
 
     @Bean
     @Primary
-    public JwtTokenProvider jwtTokenProvider() {
-        return new JwtTokenProvider();
+    public JwtTokenProvider jwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                                             @Value("${jwt.expiration}") long jwtExpiration) {
+        return new JwtTokenProvider(new HmacSigningKeys(jwtSecret), jwtExpiration, 1000,
+                new TokenRevocationRegistry(jwtExpiration), new RevokedSessionIndex(jwtExpiration, 1000),
+                new SimpleMeterRegistry());
     }
 
     @Bean
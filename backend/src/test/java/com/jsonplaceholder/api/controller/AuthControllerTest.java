@@ -4,21 +4,33 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jsonplaceholder.api.config.TestSecurityConfig;
+import com.jsonplaceholder.api.model.RegistrationStatus;
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserIdentity;
+import com.jsonplaceholder.api.security.InvalidRefreshTokenException;
+import com.jsonplaceholder.api.security.IssuedRefreshToken;
 import com.jsonplaceholder.api.security.JwtTokenProvider;
+import com.jsonplaceholder.api.security.RefreshTokenService;
+import com.jsonplaceholder.api.service.RegistrationQueue;
+import com.jsonplaceholder.api.service.RegistrationQueueFullException;
 import com.jsonplaceholder.api.service.UserService;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -30,6 +42,8 @@ import org.springframework.test.web.servlet.MockMvc;
 @Import(TestSecurityConfig.class)
 public class AuthControllerTest {
 
+    private static final UUID SESSION = UUID.randomUUID();
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -45,6 +59,12 @@ public class AuthControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private RegistrationQueue registrationQueue;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
     private User testUser;
     private LoginRequest loginRequest;
 
@@ -66,9 +86,12 @@ public class AuthControllerTest {
     void login_WithValidCredentials_ShouldReturnToken() throws Exception {
         // Arrange
         Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn("testuser");
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(tokenProvider.generateToken(any(Authentication.class))).thenReturn("test-jwt-token");
+        IssuedRefreshToken refreshToken = new IssuedRefreshToken("refresh-token", SESSION, "testuser", Instant.now());
+        when(refreshTokenService.issue("testuser")).thenReturn(refreshToken);
+        when(tokenProvider.generateToken(authentication, SESSION)).thenReturn("test-jwt-token");
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/login")
@@ -76,17 +99,42 @@ public class AuthControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token", is("test-jwt-token")));
+                .andExpect(jsonPath("$.token", is("test-jwt-token")))
+                .andExpect(jsonPath("$.refreshToken", is("refresh-token")));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(tokenProvider, times(1)).generateToken(any(Authentication.class));
+        verify(tokenProvider, times(1)).generateToken(authentication, SESSION);
+    }
+
+    @Test
+    void refresh_WithRevokedToken_ShouldReturnUnauthorized() throws Exception {
+        // Arrange
+        when(refreshTokenService.rotate("stale")).thenThrow(new InvalidRefreshTokenException());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/refresh")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"stale\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logout_ShouldRevokeTheSession() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/logout")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"current\"}"))
+                .andExpect(status().isNoContent());
+
+        verify(refreshTokenService).revoke("current");
     }
 
     @Test
     void register_WithNewUser_ShouldCreateAndReturnUser() throws Exception {
         // Arrange
-        when(userService.findByUsername(anyString())).thenReturn(Optional.empty());
-        when(userService.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userService.findIdentitiesByUsernameOrEmail(anyString(), anyString())).thenReturn(List.of());
         when(userService.createUser(any(User.class))).thenReturn(testUser);
 
         // Act & Assert
@@ -100,15 +148,15 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.username", is("testuser")))
                 .andExpect(jsonPath("$.email", is("test@example.com")));
 
-        verify(userService, times(1)).findByUsername("testuser");
-        verify(userService, times(1)).findByEmail("test@example.com");
+        verify(userService, times(1)).findIdentitiesByUsernameOrEmail("testuser", "test@example.com");
         verify(userService, times(1)).createUser(any(User.class));
     }
 
     @Test
     void register_WithExistingUsername_ShouldReturnBadRequest() throws Exception {
         // Arrange
-        when(userService.findByUsername(anyString())).thenReturn(Optional.of(testUser));
+        when(userService.findIdentitiesByUsernameOrEmail(anyString(), anyString()))
+                .thenReturn(List.of(identity("testuser", "other@example.com")));
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/register")
@@ -118,16 +166,15 @@ public class AuthControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Username is already taken!"));
 
-        verify(userService, times(1)).findByUsername("testuser");
-        verify(userService, never()).findByEmail(anyString());
+        verify(userService, times(1)).findIdentitiesByUsernameOrEmail("testuser", "test@example.com");
         verify(userService, never()).createUser(any(User.class));
     }
 
     @Test
     void register_WithExistingEmail_ShouldReturnBadRequest() throws Exception {
         // Arrange
-        when(userService.findByUsername(anyString())).thenReturn(Optional.empty());
-        when(userService.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(userService.findIdentitiesByUsernameOrEmail(anyString(), anyString()))
+                .thenReturn(List.of(identity("someoneelse", "test@example.com")));
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/register")
@@ -137,8 +184,89 @@ public class AuthControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Email is already in use!"));
 
-        verify(userService, times(1)).findByUsername("testuser");
-        verify(userService, times(1)).findByEmail("test@example.com");
+        verify(userService, times(1)).findIdentitiesByUsernameOrEmail("testuser", "test@example.com");
         verify(userService, never()).createUser(any(User.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void register_WhenUniqueIndexRejectsInsert_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(userService.findIdentitiesByUsernameOrEmail(anyString(), anyString())).thenReturn(List.of());
+        when(userService.createUser(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("ux_users_username"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/register")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testUser)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Username or email is already in use!"));
+    }
+
+    @Test
+    void register_WithPreferRespondAsync_ShouldQueueAndReturnAccepted() throws Exception {
+        // Arrange
+        when(registrationQueue.submit(any(User.class))).thenReturn(RegistrationStatus.pending("ticket-1"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/register")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testUser)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/auth/register/ticket-1"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.ticket", is("ticket-1")))
+                .andExpect(jsonPath("$.state", is("PENDING")));
+
+        verify(userService, never()).findIdentitiesByUsernameOrEmail(anyString(), anyString());
+        verify(userService, never()).createUser(any(User.class));
+    }
+
+    @Test
+    void register_WhenAsyncByDefaultAndQueueFull_ShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        when(registrationQueue.isAsyncByDefault()).thenReturn(true);
+        when(registrationQueue.submit(any(User.class))).thenThrow(new RegistrationQueueFullException());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/register")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testUser)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+
+    @Test
+    void getRegistrationStatus_ShouldReturnTheOutcomeOrNotFound() throws Exception {
+        // Arrange
+        when(registrationQueue.status("ticket-1")).thenReturn(Optional.of(RegistrationStatus.created("ticket-1", 7L)));
+        when(registrationQueue.status("unknown")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/auth/register/ticket-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("CREATED")))
+                .andExpect(jsonPath("$.userId", is(7)))
+                .andExpect(jsonPath("$.reason").doesNotExist());
+        mockMvc.perform(get("/api/auth/register/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static UserIdentity identity(String username, String email) {
+        return new UserIdentity() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
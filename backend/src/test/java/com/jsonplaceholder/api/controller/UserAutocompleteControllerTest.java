@@ -0,0 +1,52 @@
+package com.jsonplaceholder.api.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.jsonplaceholder.api.config.TestSecurityConfig;
+import com.jsonplaceholder.api.model.UserSuggestion;
+import com.jsonplaceholder.api.service.UserAutocompleteIndex;
+import com.jsonplaceholder.api.service.UserService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(UserAutocompleteController.class)
+@Import(TestSecurityConfig.class)
+public class UserAutocompleteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserAutocompleteIndex autocompleteIndex;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    @WithMockUser
+    void autocomplete_ShouldServeMatchesFromTheIndex() throws Exception {
+        // Arrange
+        when(autocompleteIndex.complete("le", 50)).thenReturn(List.of(new UserSuggestion(1L, "Bret", "Leanne Graham")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/autocomplete")
+                .param("q", "le")
+                .param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username", is("Bret")))
+                .andExpect(jsonPath("$[0].name", is("Leanne Graham")));
+
+        verify(autocompleteIndex, times(1)).complete("le", 50);
+        verifyNoInteractions(userService);
+    }
+}
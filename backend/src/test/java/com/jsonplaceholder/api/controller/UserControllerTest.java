@@ -2,25 +2,40 @@ package com.jsonplaceholder.api.controller;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jsonplaceholder.api.model.CursorPage;
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserField;
+import com.jsonplaceholder.api.model.UserFieldsRow;
+import com.jsonplaceholder.api.model.UserSearch;
+import com.jsonplaceholder.api.model.UserVersion;
 import com.jsonplaceholder.api.service.UserService;
 import com.jsonplaceholder.api.config.TestSecurityConfig;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
@@ -48,26 +63,136 @@ public class UserControllerTest {
         testUser.setUsername("testuser");
         testUser.setEmail("test@example.com");
         testUser.setPassword("password");
+        testUser.setVersion(0L);
     }
 
     @Test
     @WithMockUser
-    void getAllUsers_ShouldReturnAllUsers() throws Exception {
+    void getAllUsers_ShouldReturnFirstPage() throws Exception {
         // Arrange
-        List<User> users = Arrays.asList(testUser, new User());
-        when(userService.getAllUsers()).thenReturn(users);
+        User secondUser = new User();
+        secondUser.setId(2L);
+        secondUser.setVersion(0L);
+        List<User> users = Arrays.asList(testUser, secondUser);
+        when(userService.getUsersPage(null, 100)).thenReturn(new CursorPage<>(users, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/users")
                 .with(SecurityMockMvcRequestPostProcessors.csrf()))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id", is(1)))
                 .andExpect(jsonPath("$[0].name", is("Test User")))
                 .andExpect(jsonPath("$[0].username", is("testuser")))
                 .andExpect(jsonPath("$[0].email", is("test@example.com")));
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getUsersPage(null, 100);
+        verify(userService, never()).getAllUsers();
+    }
+
+    @Test
+    @WithMockUser
+    void getAllUsers_WithMoreResults_ShouldReturnNextCursor() throws Exception {
+        // Arrange
+        when(userService.getUsersPage(0L, 1)).thenReturn(new CursorPage<>(List.of(testUser), 1L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .param("after", "0")
+                .param("limit", "1")
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "1"))
+                .andExpect(header().string("Link", containsString("after=1")))
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        verify(userService, times(1)).getUsersPage(0L, 1);
+    }
+
+    @Test
+    @WithMockUser
+    void getAllUsers_WithOversizedLimit_ShouldClampPageSize() throws Exception {
+        // Arrange
+        when(userService.getUsersPage(null, 1000)).thenReturn(new CursorPage<>(List.of(testUser), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .param("limit", "50000")
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk());
+
+        verify(userService, times(1)).getUsersPage(null, 1000);
+    }
+
+    @Test
+    @WithMockUser
+    void getAllUsers_WithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+        // Arrange
+        Set<UserField> fields = EnumSet.of(UserField.ID, UserField.NAME, UserField.EMAIL);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", 1L);
+        values.put("name", "Test User");
+        values.put("email", "test@example.com");
+        when(userService.getUserFieldsPage(fields, null, 100))
+                .thenReturn(new CursorPage<>(List.of(new UserFieldsRow(1L, 0L, values)), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .param("fields", "name,email"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].name", is("Test User")))
+                .andExpect(jsonPath("$[0].email", is("test@example.com")))
+                .andExpect(jsonPath("$[0].username").doesNotExist())
+                .andExpect(jsonPath("$[0].version").doesNotExist());
+
+        verify(userService, times(1)).getUserFieldsPage(fields, null, 100);
+        verify(userService, never()).getUsersPage(any(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void searchUsers_ShouldBindFiltersAndPageByCursor() throws Exception {
+        // Arrange
+        UserSearch search = new UserSearch();
+        search.setName("te");
+        search.setCity("Gwenborough");
+        when(userService.searchUsers(search, null, 1)).thenReturn(new CursorPage<>(List.of(testUser), 1L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/search")
+                .param("name", "te")
+                .param("city", "Gwenborough")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "1"))
+                .andExpect(jsonPath("$[0].username", is("testuser")));
+
+        verify(userService, times(1)).searchUsers(search, null, 1);
+    }
+
+    @Test
+    @WithMockUser
+    void searchUsers_WithoutFilters_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/users/search"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).searchUsers(any(), any(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllUsers_WithPasswordField_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .param("fields", "name,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("Unknown field 'password'")));
+
+        verify(userService, never()).getUserFieldsPage(any(), any(), anyInt());
     }
 
     @Test
@@ -80,6 +205,7 @@ public class UserControllerTest {
         mockMvc.perform(get("/api/users/1")
                 .with(SecurityMockMvcRequestPostProcessors.csrf()))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("Test User")))
                 .andExpect(jsonPath("$.username", is("testuser")))
@@ -131,6 +257,7 @@ public class UserControllerTest {
         updatedUser.setName("Updated User");
         updatedUser.setUsername("updateduser");
         updatedUser.setEmail("updated@example.com");
+        updatedUser.setVersion(1L);
 
         when(userService.updateUser(anyLong(), any(User.class))).thenReturn(updatedUser);
 
@@ -177,4 +304,207 @@ public class UserControllerTest {
 
         verify(userService, times(1)).deleteUser(1L);
     }
+
+    @Test
+    @WithMockUser
+    void createUsers_ShouldCreateBatch() throws Exception {
+        // Arrange
+        when(userService.createUsers(anyList())).thenReturn(List.of(testUser));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testUser))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username", is("testuser")));
+
+        verify(userService, times(1)).createUsers(anyList());
+        verify(userService, never()).createUser(any(User.class));
+    }
+
+    @Test
+    @WithMockUser
+    void createUsers_WhenBatchTooLarge_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        List<User> users = Collections.nCopies(1001, testUser);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(users)))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).createUsers(anyList());
+    }
+
+    @Test
+    @WithMockUser
+    void updateUsers_WhenUserDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(userService.updateUsers(anyList())).thenThrow(new RuntimeException("User not found"));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testUser))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void updateUsers_WithoutIds_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(new User()))))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).updateUsers(anyList());
+    }
+
+    @Test
+    @WithMockUser
+    void deleteUsers_ShouldDeleteBatch() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1,2,3]"))
+                .andExpect(status().isOk());
+
+        verify(userService, times(1)).deleteUsers(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @WithMockUser
+    void updateUser_WhenUsernameTaken_ShouldReturnConflict() throws Exception {
+        // Arrange
+        when(userService.updateUser(anyLong(), any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("ux_users_username"));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/users/1")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testUser)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser
+    void getUserById_WithMatchingETag_ShouldReturnNotModifiedWithoutLoadingUser() throws Exception {
+        // Arrange
+        when(userService.getUserVersion(1L)).thenReturn(Optional.of(3L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(userService, never()).getUserById(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void getUserById_WithStaleETag_ShouldReturnUser() throws Exception {
+        // Arrange
+        when(userService.getUserVersion(1L)).thenReturn(Optional.of(0L));
+        when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.username", is("testuser")));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllUsers_WithMatchingETag_ShouldReturnNotModifiedWithoutLoadingUsers() throws Exception {
+        // Arrange
+        when(userService.getUsersPage(null, 100)).thenReturn(new CursorPage<>(List.of(testUser), null));
+        when(userService.getUserVersionsPage(null, 100)).thenReturn(new CursorPage<>(List.of(version(1L, 0L)), null));
+        String etag = mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(userService, times(1)).getUsersPage(null, 100);
+    }
+
+    @Test
+    @WithMockUser
+    void getAllUsers_WhenAVersionChanged_ShouldReturnFreshPage() throws Exception {
+        // Arrange
+        when(userService.getUsersPage(null, 100)).thenReturn(new CursorPage<>(List.of(testUser), null));
+        String etag = mockMvc.perform(get("/api/users"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        testUser.setVersion(1L);
+        when(userService.getUserVersionsPage(null, 100)).thenReturn(new CursorPage<>(List.of(version(1L, 1L)), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @WithMockUser
+    void updateUser_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        when(userService.getUserVersion(1L)).thenReturn(Optional.of(2L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/users/1")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testUser)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(userService, never()).updateUser(anyLong(), any(User.class));
+    }
+
+    @Test
+    @WithMockUser
+    void updateUser_WhenVersionIsStale_ShouldReturnConflict() throws Exception {
+        // Arrange
+        when(userService.updateUser(anyLong(), any(User.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, 1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/users/1")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testUser)))
+                .andExpect(status().isConflict());
+    }
+
+    private static UserVersion version(Long id, Long version) {
+        return new UserVersion() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
 }
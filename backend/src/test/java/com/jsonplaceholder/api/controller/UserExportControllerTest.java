@@ -0,0 +1,79 @@
+package com.jsonplaceholder.api.controller;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.jsonplaceholder.api.config.TestSecurityConfig;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.service.UserService;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(UserExportController.class)
+@Import(TestSecurityConfig.class)
+public class UserExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    @WithMockUser
+    @SuppressWarnings("unchecked")
+    void exportUsers_ShouldStreamOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<User> sink = invocation.getArgument(0);
+            sink.accept(user(1L, "first"));
+            sink.accept(user(2L, "second"));
+            return 2L;
+        }).when(userService).exportUsers(any(Consumer.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(matchesPattern(
+                        "\\{\"id\":1,[^\\n]*\"username\":\"first\"[^\\n]*}\n"
+                                + "\\{\"id\":2,[^\\n]*\"username\":\"second\"[^\\n]*}\n")));
+
+        verify(userService, times(1)).exportUsers(any(Consumer.class));
+        verify(userService, never()).getAllUsers();
+    }
+
+    @Test
+    void exportUsers_WithoutAuthentication_ShouldBeRejected() throws Exception {
+        mockMvc.perform(get("/api/users/export"))
+                .andExpect(status().is4xxClientError());
+
+        verifyNoInteractions(userService);
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
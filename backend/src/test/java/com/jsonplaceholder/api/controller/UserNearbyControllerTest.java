@@ -0,0 +1,112 @@
+package com.jsonplaceholder.api.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.jsonplaceholder.api.config.TestSecurityConfig;
+import com.jsonplaceholder.api.model.NearbyUser;
+import com.jsonplaceholder.api.model.UserLocation;
+import com.jsonplaceholder.api.service.UserGeoIndex;
+import com.jsonplaceholder.api.service.UserService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(UserNearbyController.class)
+@Import(TestSecurityConfig.class)
+public class UserNearbyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserGeoIndex geoIndex;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    @WithMockUser
+    void nearby_WithRadius_ShouldReturnUsersWithinIt() throws Exception {
+        // Arrange
+        when(geoIndex.within(52.52, 13.405, 25.0, 10)).thenReturn(List.of(
+                new NearbyUser(new UserLocation(1L, "berlin", "Berlin", 52.52, 13.405), 0.0)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "52.52")
+                .param("lng", "13.405")
+                .param("radiusKm", "25"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username", is("berlin")))
+                .andExpect(jsonPath("$[0].distanceKm", is(0.0)));
+
+        verify(geoIndex, never()).nearest(anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void nearby_WithoutRadius_ShouldReturnKNearest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "52.52")
+                .param("lng", "13.405")
+                .param("limit", "1000"))
+                .andExpect(status().isOk());
+
+        verify(geoIndex, times(1)).nearest(52.52, 13.405, 100);
+    }
+
+    @Test
+    @WithMockUser
+    void nearby_WithInvalidCoordinates_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "91")
+                .param("lng", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "0")
+                .param("lng", "0")
+                .param("radiusKm", "-1"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(geoIndex);
+    }
+
+    @Test
+    @WithMockUser
+    void nearby_WithNonFiniteNumbers_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "NaN")
+                .param("lng", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "0")
+                .param("lng", "NaN"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "0")
+                .param("lng", "0")
+                .param("radiusKm", "Infinity"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users/nearby")
+                .param("lat", "0")
+                .param("lng", "0")
+                .param("radiusKm", "NaN"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(geoIndex);
+    }
+}
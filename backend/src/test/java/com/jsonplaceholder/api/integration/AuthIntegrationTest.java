@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.ActiveProfiles;
@@ -17,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -72,6 +74,29 @@ public class AuthIntegrationTest {
                 .andExpect(jsonPath("$.token", not(emptyString())));
     }
 
+    @Test
+    void login_WithLegacyBcryptHash_ShouldSucceedAndRehash() throws Exception {
+        // Arrange
+        User legacyUser = new User();
+        legacyUser.setName("Legacy User");
+        legacyUser.setUsername("legacyuser");
+        legacyUser.setEmail("legacy@example.com");
+        legacyUser.setPassword(new BCryptPasswordEncoder().encode("password"));
+        userRepository.saveAndFlush(legacyUser);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/login")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TestLoginRequest("legacyuser", "password"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token", notNullValue()));
+
+        String storedHash = userRepository.findByUsername("legacyuser").orElseThrow().getPassword();
+        assertTrue(storedHash.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("password", storedHash));
+    }
+
     @Test
     void login_WithInvalidCredentials_ShouldReturnUnauthorized() throws Exception {
         // Arrange
@@ -85,6 +110,42 @@ public class AuthIntegrationTest {
                 .andExpect(status().is4xxClientError()); // Accept any 4xx error code
     }
 
+    @Test
+    void login_BeyondUsernameBurst_ShouldReturnTooManyRequests() throws Exception {
+        // Arrange
+        loginRequest.setUsername("bruteforced");
+        loginRequest.setPassword("guess");
+        String body = objectMapper.writeValueAsString(loginRequest);
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().is4xxClientError())
+                    .andExpect(header().doesNotExist("Retry-After"));
+        }
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void login_RepeatedlyWithValidCredentials_ShouldNotUseUpTheUsernameBudget() throws Exception {
+        // Arrange
+        String body = objectMapper.writeValueAsString(loginRequest);
+
+        // Act & Assert
+        for (int i = 0; i < 8; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isOk());
+        }
+    }
+
     @Test
     void register_WithNewUser_ShouldCreateAndReturnUser() throws Exception {
         // Arrange
@@ -0,0 +1,54 @@
+package com.jsonplaceholder.api.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:forwardedipdb;DB_CLOSE_DELAY=-1",
+        "auth.rate-limit.per-ip.per-minute=1",
+        "auth.rate-limit.per-ip.burst=2"
+})
+@ActiveProfiles("test")
+public class ForwardedClientIpIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @Test
+    void login_ThroughTheProxy_ShouldThrottleEachForwardedClientSeparately() throws Exception {
+        // Arrange
+        assertNotEquals(429, login("203.0.113.7", "first"));
+        assertNotEquals(429, login("203.0.113.7", "second"));
+
+        // Act
+        int throttled = login("203.0.113.7", "third");
+        int otherClient = login("203.0.113.8", "fourth");
+
+        // Assert
+        assertEquals(429, throttled);
+        assertNotEquals(429, otherClient);
+    }
+
+    private int login(String forwardedFor, String username) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"wrong\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
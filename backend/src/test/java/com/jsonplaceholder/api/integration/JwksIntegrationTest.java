@@ -0,0 +1,150 @@
+package com.jsonplaceholder.api.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jsonplaceholder.api.model.TestLoginRequest;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.JwtSigningKeyRepository;
+import com.jsonplaceholder.api.repository.RefreshTokenRepository;
+import com.jsonplaceholder.api.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jwksdb;DB_CLOSE_DELAY=-1",
+        "jwt.algorithm=ES256"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class JwksIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtSigningKeyRepository signingKeyRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("Jwks User");
+        user.setUsername("jwksuser");
+        user.setEmail("jwks@example.com");
+        user.setPassword(passwordEncoder.encode("password"));
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void login_ShouldIssueAnEs256TokenVerifiableWithThePublishedKey() throws Exception {
+        // Arrange
+        String token = login();
+
+        // Act
+        String body = mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        JsonNode jwks = objectMapper.readTree(body).get("keys");
+        assertEquals(2, jwks.size());
+        assertEquals(2, signingKeyRepository.count());
+        JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        assertEquals("ES256", header.get("alg").asText());
+        JsonNode jwk = null;
+        for (JsonNode candidate : jwks) {
+            if (candidate.get("kid").asText().equals(header.get("kid").asText())) {
+                jwk = candidate;
+            }
+        }
+        assertNotNull(jwk);
+        assertNull(jwk.get("d"));
+        Jws<Claims> verified = Jwts.parserBuilder().setSigningKey(publicKey(jwk)).build().parseClaimsJws(token);
+        assertEquals("jwksuser", verified.getBody().getSubject());
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void request_WithAnHs256Token_ShouldBeRejected() throws Exception {
+        // Arrange
+        String token = Jwts.builder()
+                .setSubject("jwksuser")
+                .signWith(Keys.hmacShaKeyFor("test-secret-key-for-jwt-token-generation-and-validation".getBytes()))
+                .compact();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private String login() throws Exception {
+        TestLoginRequest loginRequest = new TestLoginRequest();
+        loginRequest.setUsername("jwksuser");
+        loginRequest.setPassword("password");
+        String body = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private static PublicKey publicKey(JsonNode jwk) throws Exception {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECPoint point = new ECPoint(coordinate(jwk.get("x").asText()), coordinate(jwk.get("y").asText()));
+        ECPublicKeySpec spec = new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class));
+        return KeyFactory.getInstance("EC").generatePublic(spec);
+    }
+
+    private static BigInteger coordinate(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+}
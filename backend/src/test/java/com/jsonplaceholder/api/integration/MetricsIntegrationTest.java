@@ -0,0 +1,69 @@
+package com.jsonplaceholder.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jsonplaceholder.api.model.TestLoginRequest;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metricsdb")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void prometheusEndpoint_ShouldExposeHotPathTimersWithoutAuthentication() throws Exception {
+        // Arrange
+        User user = new User();
+        user.setUsername("metricsuser");
+        user.setEmail("metrics@example.com");
+        user.setPassword(passwordEncoder.encode("password"));
+        userRepository.save(user);
+
+        TestLoginRequest loginRequest = new TestLoginRequest();
+        loginRequest.setUsername("metricsuser");
+        loginRequest.setPassword("password");
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/api/auth/login\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("jwt_sign_seconds_bucket{")))
+                .andExpect(content().string(containsString("password_matches_seconds_count")))
+                .andExpect(content().string(containsString("auth_user_lookup_seconds_count")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"validatedTokens\"")));
+    }
+}
@@ -0,0 +1,192 @@
+package com.jsonplaceholder.api.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jsonplaceholder.api.model.TestLoginRequest;
+import com.jsonplaceholder.api.model.RefreshToken;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.RefreshTokenRepository;
+import com.jsonplaceholder.api.repository.UserRepository;
+import com.jsonplaceholder.api.security.RefreshTokenService;
+import com.jsonplaceholder.api.security.RevokedSessionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:refreshdb;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RefreshTokenIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("Refresh User");
+        user.setUsername("refreshuser");
+        user.setEmail("refresh@example.com");
+        user.setPassword(passwordEncoder.encode("password"));
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void refresh_ShouldRotateAndStoreOnlyDigests() throws Exception {
+        // Arrange
+        JsonNode login = login();
+        String refreshToken = login.get("refreshToken").asText();
+
+        // Act
+        JsonNode refreshed = refresh(refreshToken, status().isOk());
+
+        // Assert
+        assertNotEquals(refreshToken, refreshed.get("refreshToken").asText());
+        expectUsers(refreshed.get("token").asText(), status().isOk());
+        assertEquals(2, refreshTokenRepository.count());
+        assertTrue(refreshTokenRepository.findAll().stream()
+                .noneMatch(token -> token.getTokenHash().equals(refreshToken)));
+    }
+
+    @Test
+    void refresh_WithARotatedToken_ShouldRevokeTheWholeSession() throws Exception {
+        // Arrange
+        String first = login().get("refreshToken").asText();
+        JsonNode second = refresh(first, status().isOk());
+        String accessToken = second.get("token").asText();
+        expectUsers(accessToken, status().isOk());
+
+        // Act
+        refresh(first, status().isUnauthorized());
+
+        // Assert
+        refresh(second.get("refreshToken").asText(), status().isUnauthorized());
+        expectUsers(accessToken, status().isForbidden());
+    }
+
+    @Test
+    void logout_ShouldRejectTheSessionsAccessTokensWithoutADatabaseLookup() throws Exception {
+        // Arrange
+        JsonNode login = login();
+        JsonNode otherLogin = login();
+        String accessToken = login.get("token").asText();
+        expectUsers(accessToken, status().isOk());
+
+        // Act
+        mockMvc.perform(post("/api/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", login.get("refreshToken").asText()))))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        expectUsers(accessToken, status().isForbidden());
+        expectUsers(otherLogin.get("token").asText(), status().isOk());
+        refresh(login.get("refreshToken").asText(), status().isUnauthorized());
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteOnlyExpiredTokens() throws Exception {
+        // Arrange
+        login();
+        RefreshToken expired = refreshTokenRepository.findAll().get(0);
+        expired.setExpiresAt(Instant.now().minusSeconds(1));
+        refreshTokenRepository.save(expired);
+        login();
+
+        // Act
+        refreshTokenService.purgeExpired();
+
+        // Assert
+        assertEquals(1, refreshTokenRepository.count());
+        assertTrue(refreshTokenRepository.findById(expired.getId()).isEmpty());
+    }
+
+    @Test
+    void logout_OnAnotherInstance_ShouldReachThisInstanceOnTheNextPoll() throws Exception {
+        // Arrange
+        RevokedSessionIndex otherIndex = new RevokedSessionIndex(Duration.ofMinutes(15).toMillis(), 100);
+        RefreshTokenService otherInstance = new RefreshTokenService(refreshTokenRepository, userRepository,
+                otherIndex, Duration.ofDays(30), Duration.ofMinutes(15).toMillis());
+        otherInstance.pollRevokedSessions();
+        JsonNode login = login();
+        UUID session = refreshTokenRepository.findAll().get(0).getFamilyId();
+
+        // Act
+        mockMvc.perform(post("/api/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", login.get("refreshToken").asText()))))
+                .andExpect(status().isNoContent());
+        boolean revokedBeforePoll = otherIndex.isRevoked(session);
+        otherInstance.pollRevokedSessions();
+
+        // Assert
+        assertFalse(revokedBeforePoll);
+        assertTrue(otherIndex.isRevoked(session));
+        assertEquals(1, otherIndex.size());
+    }
+
+    private JsonNode login() throws Exception {
+        TestLoginRequest loginRequest = new TestLoginRequest();
+        loginRequest.setUsername("refreshuser");
+        loginRequest.setPassword("password");
+        String body = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode refresh(String refreshToken, ResultMatcher expected) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))))
+                .andExpect(expected)
+                .andReturn().getResponse().getContentAsString();
+        return body.isEmpty() ? null : objectMapper.readTree(body);
+    }
+
+    private void expectUsers(String accessToken, ResultMatcher expected) throws Exception {
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + accessToken))
+                .andExpect(expected);
+    }
+}
@@ -0,0 +1,141 @@
+package com.jsonplaceholder.api.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jsonplaceholder.api.config.ReplicaRouting;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.UserRepository;
+import com.jsonplaceholder.api.security.CustomUserDetailsService;
+import com.jsonplaceholder.api.service.UserService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "db.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primarydb;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeAll
+    static void prepareReplica() {
+        // a replica that has not caught up: same schema, different rows
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "password")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "password")).update(
+                "insert into users (id, name, username, email) "
+                        + "values (nextval('users_seq'), 'Replica Only', 'replicaonly', 'replica@example.com')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void readOnlyQueries_ShouldGoToTheReplicaUnlessPinned() {
+        // Act & Assert
+        assertTrue(userService.getAllUsers().stream().anyMatch(user -> "replicaonly".equals(user.getUsername())));
+        assertTrue(ReplicaRouting.onPrimary(() -> userService.getAllUsers()).isEmpty());
+    }
+
+    @Test
+    void writes_ShouldGoToThePrimaryAndLoginShouldReadItsOwnWrite() {
+        // Arrange
+        User user = new User();
+        user.setName("Fresh User");
+        user.setUsername("freshuser");
+        user.setEmail("fresh@example.com");
+        user.setPassword("password");
+
+        // Act
+        userService.createUser(user);
+
+        // Assert
+        assertTrue(userService.findByUsername("freshuser").isEmpty());
+        assertTrue(ReplicaRouting.onPrimary(() -> userService.findByUsername("freshuser")).isPresent());
+        assertEquals("freshuser", userDetailsService.loadUserByUsername("freshuser").getUsername());
+    }
+
+    @Test
+    void pinnedReads_ShouldRefreshQueryResultsCachedFromTheReplica() {
+        // Arrange
+        User user = new User();
+        user.setName("Lagging User");
+        user.setUsername("lagginguser");
+        user.setEmail("lagging@example.com");
+        user.setPassword("password");
+        userService.createUser(user);
+        assertTrue(userService.findByUsername("lagginguser").isEmpty());
+
+        // Act
+        boolean pinned = ReplicaRouting.onPrimary(() -> userService.findByUsername("lagginguser")).isPresent();
+
+        // Assert
+        assertTrue(pinned);
+        assertTrue(userService.findByUsername("lagginguser").isPresent());
+    }
+
+    @Test
+    void registerAndLogin_OverHttp_ShouldWriteToThePrimary() throws Exception {
+        // Arrange
+        Map<String, String> registration = Map.of(
+                "name", "Http User", "username", "httpuser", "email", "http@example.com", "password", "password");
+
+        // Act
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registration)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("username", "httpuser", "password", "password"))))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertEquals(1, countRows(PRIMARY_URL, "select count(*) from users where username = 'httpuser'"));
+        assertEquals(1, countRows(PRIMARY_URL, "select count(*) from refresh_tokens"));
+        assertEquals(0, countRows(REPLICA_URL, "select count(*) from users where username = 'httpuser'"));
+    }
+
+    private static int countRows(String url, String sql) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", "password")).queryForObject(sql, Integer.class);
+    }
+}
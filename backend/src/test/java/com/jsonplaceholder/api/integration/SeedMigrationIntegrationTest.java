@@ -0,0 +1,47 @@
+package com.jsonplaceholder.api.integration;
+
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:seeddb")
+@ActiveProfiles({"test", "seed"})
+public class SeedMigrationIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void seedProfile_ShouldLoadSampleUsersIntoEmbeddedColumns() {
+        // Act
+        User bret = userRepository.findByUsername("Bret").orElseThrow();
+
+        // Assert
+        assertEquals(5, userRepository.count());
+        assertEquals("Gwenborough", bret.getAddress().getCity());
+        assertEquals(-37.3159, bret.getAddress().getGeo().getLat());
+        assertEquals("Romaguera-Crona", bret.getCompany().getName());
+    }
+
+    @Test
+    void seededIds_ShouldNotCollideWithGeneratedIds() {
+        // Arrange
+        long maxSeededId = userRepository.findAll().stream().mapToLong(User::getId).max().orElseThrow();
+        User user = new User();
+        user.setUsername("afterseed");
+        user.setEmail("afterseed@example.com");
+
+        // Act
+        User saved = userRepository.saveAndFlush(user);
+
+        // Assert
+        assertTrue(saved.getId() > maxSeededId);
+        userRepository.delete(saved);
+    }
+}
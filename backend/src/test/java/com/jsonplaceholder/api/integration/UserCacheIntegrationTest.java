@@ -0,0 +1,153 @@
+package com.jsonplaceholder.api.integration;
+
+import com.jsonplaceholder.api.config.CacheInvalidationBroadcaster;
+import com.jsonplaceholder.api.config.UserCacheInvalidation;
+import com.jsonplaceholder.api.config.UserCacheInvalidator;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.UserRepository;
+import com.jsonplaceholder.api.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:usercachedb;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+public class UserCacheIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheInvalidationBroadcaster broadcaster;
+
+    @Autowired
+    private UserCacheInvalidator invalidator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User newUser = new User();
+        newUser.setName("Cached User");
+        newUser.setUsername("cacheduser");
+        newUser.setEmail("cached@example.com");
+        newUser.setPassword("password");
+        user = userService.createUser(newUser);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getUserById_CalledTwice_ShouldHitTheSecondLevelCache() {
+        // Act
+        userService.getUserById(user.getId());
+        userService.getUserById(user.getId());
+
+        // Assert
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "users").tag("result", "hit").functionCounter().count() >= 1);
+    }
+
+    @Test
+    void exportUsers_ShouldNotFillTheSecondLevelCache() {
+        // Arrange
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // Act
+        long exported = userService.exportUsers(exportedUser -> { });
+
+        // Assert
+        assertTrue(exported >= 1);
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertFalse(entityManagerFactory.getCache().contains(User.class, user.getId()));
+        userService.getUserById(user.getId());
+        assertTrue(entityManagerFactory.getCache().contains(User.class, user.getId()));
+    }
+
+    @Test
+    void findByUsername_CalledTwice_ShouldHitTheQueryCache() {
+        // Act
+        userService.findByUsername("cacheduser");
+        userService.findByUsername("cacheduser");
+
+        // Assert
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCachePutCount());
+    }
+
+    @Test
+    void findByUsername_AfterLocalUpdate_ShouldNotReturnTheCachedResult() {
+        // Arrange
+        userService.findByUsername("cacheduser");
+        User update = userService.getUserById(user.getId()).orElseThrow();
+        update.setUsername("renameduser");
+
+        // Act
+        userService.updateUser(user.getId(), update);
+
+        // Assert
+        assertTrue(userService.findByUsername("cacheduser").isEmpty());
+        assertEquals("renameduser", userService.getUserById(user.getId()).orElseThrow().getUsername());
+    }
+
+    @Test
+    void localChange_ShouldBeBroadcastWithThisNodesOrigin() {
+        // Arrange
+        List<UserCacheInvalidation> received = new CopyOnWriteArrayList<>();
+        broadcaster.subscribe(received::add);
+
+        // Act
+        userService.deleteUser(user.getId());
+
+        // Assert
+        assertEquals(List.of(new UserCacheInvalidation(invalidator.getNodeId(), Set.of(user.getId()))), received);
+    }
+
+    @Test
+    void invalidationFromAnotherNode_ShouldEvictTheUserAndCachedQueries() {
+        // Arrange
+        userService.getUserById(user.getId());
+        userService.findByUsername("cacheduser");
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        assertTrue(cache.containsEntity(User.class, user.getId()));
+
+        // Act
+        broadcaster.broadcast(new UserCacheInvalidation("another-node", Set.of(user.getId())));
+
+        // Assert
+        assertFalse(cache.containsEntity(User.class, user.getId()));
+        userService.findByUsername("cacheduser");
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+}
@@ -1,13 +1,18 @@
 package com.jsonplaceholder.api.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jsonplaceholder.api.model.Address;
+import com.jsonplaceholder.api.model.Company;
 import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserIdentity;
 import com.jsonplaceholder.api.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
@@ -15,7 +20,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -62,6 +72,36 @@ public class UserIntegrationTest {
                 .andExpect(jsonPath("$[0].email", is("integration@example.com")));
     }
 
+    @Test
+    @WithMockUser
+    void getAllUsers_WithLimit_ShouldPageByCursor() throws Exception {
+        // Arrange
+        User second = new User();
+        second.setName("Second User");
+        second.setUsername("seconduser");
+        second.setEmail("second@example.com");
+        second.setPassword("password");
+        second = userRepository.save(second);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .param("limit", "1")
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(testUser.getId())))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username", is("integrationuser")));
+
+        mockMvc.perform(get("/api/users")
+                .param("limit", "1")
+                .param("after", String.valueOf(testUser.getId()))
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(second.getId().intValue())));
+    }
+
     @Test
     @WithMockUser
     void getUserById_WhenUserExists_ShouldReturnUser() throws Exception {
@@ -156,4 +196,215 @@ public class UserIntegrationTest {
                 .with(SecurityMockMvcRequestPostProcessors.csrf()))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void batchEndpoints_ShouldCreateUpdateAndDeleteUsers() throws Exception {
+        // Arrange
+        User first = new User();
+        first.setName("Batch One");
+        first.setUsername("batchone");
+        first.setEmail("batchone@example.com");
+        first.setPassword("password");
+        User second = new User();
+        second.setName("Batch Two");
+        second.setUsername("batchtwo");
+        second.setEmail("batchtwo@example.com");
+        second.setPassword("password");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(first, second))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", notNullValue()))
+                .andExpect(jsonPath("$[1].username", is("batchtwo")));
+
+        User created = userRepository.findByUsername("batchone").orElseThrow();
+        assertTrue(created.getPassword().startsWith("{bcrypt}"));
+        User rename = new User();
+        rename.setId(created.getId());
+        rename.setName("Batch One Renamed");
+        rename.setUsername(created.getUsername());
+        rename.setEmail(created.getEmail());
+
+        mockMvc.perform(put("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(rename))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("Batch One Renamed")));
+
+        Long secondId = userRepository.findByUsername("batchtwo").orElseThrow().getId();
+        mockMvc.perform(delete("/api/users/batch")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(created.getId(), secondId))))
+                .andExpect(status().isOk());
+
+        assertTrue(userRepository.findByUsername("batchone").isEmpty());
+        assertTrue(userRepository.findByUsername("batchtwo").isEmpty());
+    }
+
+    @Test
+    void saveUser_WithDuplicateUsernameOrEmail_ShouldViolateUniqueIndex() {
+        // Arrange
+        User sameUsername = new User();
+        sameUsername.setUsername(testUser.getUsername());
+        sameUsername.setEmail("duplicate@example.com");
+        User sameEmail = new User();
+        sameEmail.setUsername("duplicate");
+        sameEmail.setEmail(testUser.getEmail());
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> userRepository.saveAndFlush(sameUsername));
+        assertThrows(DataIntegrityViolationException.class, () -> userRepository.saveAndFlush(sameEmail));
+    }
+
+    @Test
+    void findIdentitiesByUsernameOrEmail_ShouldMatchEitherColumn() {
+        // Act
+        List<UserIdentity> byUsername = userRepository.findIdentitiesByUsernameOrEmail("integrationuser", "nobody@example.com");
+        List<UserIdentity> byEmail = userRepository.findIdentitiesByUsernameOrEmail("nobody", "integration@example.com");
+        List<UserIdentity> none = userRepository.findIdentitiesByUsernameOrEmail("nobody", "nobody@example.com");
+
+        // Assert
+        assertEquals(1, byUsername.size());
+        assertEquals("integration@example.com", byUsername.get(0).getEmail());
+        assertEquals(1, byEmail.size());
+        assertEquals("integrationuser", byEmail.get(0).getUsername());
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    @WithMockUser
+    void conditionalRequests_ShouldFollowTheUserVersion() throws Exception {
+        String path = "/api/users/" + testUser.getId();
+
+        // Act & Assert
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version", is(0)));
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        User update = new User();
+        update.setName("Versioned User");
+        update.setUsername(testUser.getUsername());
+        update.setEmail(testUser.getEmail());
+        mockMvc.perform(put(path)
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        userRepository.flush();
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.name", is("Versioned User")));
+        mockMvc.perform(put(path)
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllUsers_WithFields_ShouldSelectOnlyRequestedColumns() throws Exception {
+        // Arrange
+        Address address = new Address();
+        address.setCity("Gwenborough");
+        testUser.setAddress(address);
+        userRepository.saveAndFlush(testUser);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users")
+                .param("fields", "name,email,address"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(testUser.getId().intValue())))
+                .andExpect(jsonPath("$[0].name", is("Integration Test User")))
+                .andExpect(jsonPath("$[0].email", is("integration@example.com")))
+                .andExpect(jsonPath("$[0].address.city", is("Gwenborough")))
+                .andExpect(jsonPath("$[0].username").doesNotExist())
+                .andExpect(jsonPath("$[0].password").doesNotExist());
+        mockMvc.perform(get("/api/users")
+                .param("fields", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void searchUsers_ShouldFilterCaseInsensitivelyAndPageByCursor() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setName("Search Match " + i);
+            user.setUsername("search" + i);
+            user.setEmail("search" + i + "@example.com");
+            Address address = new Address();
+            address.setCity("Wisokyburgh");
+            user.setAddress(address);
+            Company company = new Company();
+            company.setName("Romaguera-Crona");
+            user.setCompany(company);
+            userRepository.save(user);
+        }
+        userRepository.flush();
+
+        // Act & Assert
+        String next = mockMvc.perform(get("/api/users/search")
+                .param("name", "search m")
+                .param("city", "WISOKYBURGH")
+                .param("company", "romaguera-crona")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].username", is("search0")))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+        mockMvc.perform(get("/api/users/search")
+                .param("name", "search m")
+                .param("after", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].username", is("search2")));
+        mockMvc.perform(get("/api/users/search")
+                .param("name", "search_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser
+    void createUser_WithStringCoordinates_ShouldStoreThemAsNumbers() throws Exception {
+        // Arrange
+        String body = """
+                {"name": "Geo User", "username": "geouser", "email": "geo@example.com", "password": "password",
+                 "address": {"city": "Berlin", "geo": {"lat": "52.5200", "lng": "13.4050"}}}""";
+
+        // Act
+        mockMvc.perform(post("/api/users")
+                .with(SecurityMockMvcRequestPostProcessors.csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.address.geo.lat", is("52.52")))
+                .andExpect(jsonPath("$.address.geo.lng", is("13.405")));
+
+        // Assert
+        User stored = userRepository.findByUsername("geouser").orElseThrow();
+        assertEquals(52.52, stored.getAddress().getGeo().getLat());
+        assertEquals(1, userRepository.streamLocations()
+                .filter(location -> location.getUsername().equals("geouser"))
+                .count());
+    }
+}
@@ -0,0 +1,294 @@
+package com.jsonplaceholder.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.UserRepository;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Open-model load test: requests are scheduled at a fixed rate whether or not earlier ones have finished, and
+ * latency is measured from the intended send time so queueing delay is not hidden (no coordinated omission).
+ * Excluded from the default build; run with {@code mvn test -Pload-test}. Tunables are system properties,
+ * see {@link Settings}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.security=INFO",
+        "logging.level.com.jsonplaceholder.api=INFO"
+})
+@ActiveProfiles("test")
+public class LoadTest {
+
+    private static final String PASSWORD = "password";
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    enum Operation { LOGIN, LIST, GET, UPDATE }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        List<User> users = seed(settings.users());
+        String token = login(users.get(0).getUsername());
+
+        Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + settings.warmup().toNanos();
+        long endNanos = measureFromNanos + settings.duration().toNanos();
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        AtomicLong tick = new AtomicLong();
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(() -> {
+            long intendedNanos = startNanos + tick.getAndIncrement() * periodNanos;
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            Operation operation = settings.pick(ThreadLocalRandom.current().nextInt(settings.totalWeight()));
+            Stats target = intendedNanos >= measureFromNanos ? stats.get(operation) : null;
+            if (!inFlight.tryAcquire()) {
+                if (target != null) {
+                    target.dropped.increment();
+                }
+                return;
+            }
+            User user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+            client.sendAsync(request(operation, user, token), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (target != null) {
+                            target.record(System.nanoTime() - intendedNanos, error == null ? response.statusCode() : -1);
+                        }
+                    });
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        TimeUnit.NANOSECONDS.sleep(endNanos - System.nanoTime());
+        scheduler.shutdownNow();
+        inFlight.tryAcquire(settings.maxInFlight(), 30, TimeUnit.SECONDS);
+
+        Map<String, Object> report = report(settings, stats);
+        Path reportFile = Path.of(settings.reportPath());
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report.get("total")));
+
+        long requests = stats.values().stream().mapToLong(s -> s.histogram.getTotalCount() + s.dropped.sum()).sum();
+        long failures = stats.values().stream().mapToLong(s -> s.errors.sum() + s.dropped.sum()).sum();
+        assertTrue(requests > 0, "no requests were measured");
+        assertTrue((double) failures / requests <= settings.maxErrorRate(),
+                "error rate " + failures + "/" + requests + " exceeds " + settings.maxErrorRate() + ", see " + reportFile);
+    }
+
+    private List<User> seed(int count) {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<User> seeded = new ArrayList<>(count);
+        for (int from = 0; from < count; from += 1000) {
+            List<User> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(count, from + 1000); i++) {
+                User user = new User();
+                user.setName("Load User " + i);
+                user.setUsername("loaduser" + i);
+                user.setEmail("loaduser" + i + "@example.com");
+                user.setPassword(encodedPassword);
+                chunk.add(user);
+            }
+            seeded.addAll(userRepository.saveAll(chunk));
+        }
+        return seeded;
+    }
+
+    private String login(String username) throws Exception {
+        HttpResponse<String> response = client.send(loginRequest(username), HttpResponse.BodyHandlers.ofString());
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("token").asText();
+    }
+
+    private HttpRequest request(Operation operation, User user, String token) {
+        return switch (operation) {
+            case LOGIN -> loginRequest(user.getUsername());
+            case LIST -> authorized(uri("/api/users?limit=20&after=" + (user.getId() - 1)), token).GET().build();
+            case GET -> authorized(uri("/api/users/" + user.getId()), token).GET().build();
+            case UPDATE -> authorized(uri("/api/users/" + user.getId()), token)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(updateBody(user)))
+                    .build();
+        };
+    }
+
+    private HttpRequest loginRequest(String username) {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}";
+        return HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String updateBody(User user) {
+        return "{\"name\":\"" + user.getName() + " " + ThreadLocalRandom.current().nextInt(1000)
+                + "\",\"username\":\"" + user.getUsername() + "\",\"email\":\"" + user.getEmail() + "\"}";
+    }
+
+    private static HttpRequest.Builder authorized(URI uri, String token) {
+        return HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Map<String, Object> report(Settings settings, Map<Operation, Stats> stats) {
+        double seconds = settings.duration().toNanos() / 1e9;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        Stats total = new Stats();
+        stats.forEach((operation, s) -> {
+            operations.put(operation.name().toLowerCase(), s.summary(seconds));
+            total.histogram.add(s.histogram);
+            total.errors.add(s.errors.sum());
+            total.dropped.add(s.dropped.sum());
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", settings.label());
+        report.put("timestamp", Instant.now().toString());
+        report.put("settings", settings);
+        report.put("total", total.summary(seconds));
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static final class Stats {
+        final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_LATENCY, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+
+        void record(long latencyNanos, int status) {
+            histogram.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_LATENCY));
+            if (status < 200 || status >= 400) {
+                errors.increment();
+            }
+        }
+
+        Map<String, Object> summary(double seconds) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", histogram.getTotalCount());
+            summary.put("errors", errors.sum());
+            summary.put("dropped", dropped.sum());
+            summary.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+            latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+            latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+            latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+            latency.put("max", millis(histogram.getMaxValue()));
+            latency.put("mean", millis((long) histogram.getMean()));
+            summary.put("latencyMillis", latency);
+            return summary;
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+
+    /**
+     * System properties (all optional): {@code loadtest.users}, {@code loadtest.rate} (requests per second),
+     * {@code loadtest.warmup} and {@code loadtest.duration} (ISO-8601 or seconds), {@code loadtest.mix}
+     * (weights, e.g. {@code login=5,list=15,get=70,update=10}), {@code loadtest.max-in-flight},
+     * {@code loadtest.max-error-rate}, {@code loadtest.label} and {@code loadtest.report}.
+     */
+    record Settings(String label, int users, int rate, Duration warmup, Duration duration,
+                    Map<Operation, Integer> mix, int maxInFlight, double maxErrorRate, String reportPath) {
+
+        static Settings fromSystemProperties() {
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            for (String entry : System.getProperty("loadtest.mix", "login=5,list=15,get=70,update=10").split(",")) {
+                String[] parts = entry.split("=");
+                mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+            }
+            return new Settings(
+                    System.getProperty("loadtest.label", "local"),
+                    Integer.getInteger("loadtest.users", 1000),
+                    Integer.getInteger("loadtest.rate", 200),
+                    duration("loadtest.warmup", "5"),
+                    duration("loadtest.duration", "30"),
+                    mix,
+                    Integer.getInteger("loadtest.max-in-flight", 512),
+                    Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+                    System.getProperty("loadtest.report", "target/load-test/report.json"));
+        }
+
+        int totalWeight() {
+            return mix.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        Operation pick(int roll) {
+            for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+                roll -= entry.getValue();
+                if (roll < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("empty workload mix");
+        }
+
+        private static Duration duration(String property, String defaultSeconds) {
+            String value = System.getProperty(property, defaultSeconds);
+            return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+        }
+    }
+}
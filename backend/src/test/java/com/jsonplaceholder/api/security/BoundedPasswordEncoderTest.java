@@ -0,0 +1,166 @@
+package com.jsonplaceholder.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_ShouldDelegate() {
+        // Arrange
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode("password")).thenReturn("hash");
+        when(delegate.matches("password", "hash")).thenReturn(true);
+        when(delegate.upgradeEncoding("hash")).thenReturn(true);
+        encoder = new BoundedPasswordEncoder(delegate, 2, 4, meterRegistry);
+
+        // Act & Assert
+        assertEquals("hash", encoder.encode("password"));
+        assertTrue(encoder.matches("password", "hash"));
+        assertTrue(encoder.upgradeEncoding("hash"));
+    }
+
+    @Test
+    void encode_WhenDelegateThrows_ShouldPropagateOriginalException() {
+        // Arrange
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(null)).thenThrow(new IllegalArgumentException("rawPassword cannot be null"));
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(null));
+    }
+
+    @Test
+    void encode_WhenPoolAndQueueAreFull_ShouldRejectImmediately() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (encoder.getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        PasswordHashingBusyException exception =
+                assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals("1", exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        assertEquals(3, meterRegistry.get("password.encode").timer().count());
+    }
+
+    @Test
+    void encodeAll_WithATinyQueue_ShouldStillHashEveryEntryOnThePool() {
+        // Arrange
+        List<String> threads = new CopyOnWriteArrayList<>();
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return "hash-" + invocation.getArgument(0);
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        // Act
+        List<String> encoded = encoder.encodeAll(List.of("a", "b", "c", "d", "e"));
+
+        // Assert
+        assertEquals(List.of("hash-a", "hash-b", "hash-c", "hash-d", "hash-e"), encoded);
+        assertEquals(5, threads.size());
+        assertTrue(threads.stream().allMatch(thread -> thread.startsWith("password-hashing-")));
+    }
+
+    @Test
+    void encodeAll_WhenNoBatchSlotFreesUp_ShouldRejectInsteadOfHashingOnTheCaller() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 4, meterRegistry, Duration.ofMillis(50));
+
+        // Act & Assert
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encodeAll(List.of("a", "b")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        verify(delegate, times(1)).encode(anyString());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void encodeAll_ShouldLeaveQueueSlotsForConcurrentEncodes() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            String rawPassword = invocation.getArgument(0);
+            if (rawPassword.equals("a")) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return "hash-" + rawPassword;
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 4, meterRegistry);
+        CompletableFuture<List<String>> batch = CompletableFuture.supplyAsync(
+                () -> encoder.encodeAll(List.of("a", "b", "c", "d", "e", "f", "g", "h")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<String> login = CompletableFuture.supplyAsync(() -> encoder.encode("login"));
+        while (encoder.getQueueDepth() == 0 && !login.isDone()) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertEquals(1, encoder.getQueueDepth());
+        release.countDown();
+        assertEquals("hash-login", login.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("hash-a", "hash-b", "hash-c", "hash-d", "hash-e", "hash-f", "hash-g", "hash-h"),
+                batch.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+}
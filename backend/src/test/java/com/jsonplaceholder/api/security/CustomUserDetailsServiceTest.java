@@ -0,0 +1,124 @@
+package com.jsonplaceholder.api.security;
+
+import com.jsonplaceholder.api.config.ReadYourWritesTracker;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.UserRepository;
+import com.jsonplaceholder.api.service.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomUserDetailsService userDetailsService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new CustomUserDetailsService(userRepository,
+                new ReadYourWritesTracker(Duration.ofSeconds(5)), meterRegistry, 100, Duration.ofMinutes(5));
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        testUser.setPassword("encodedPassword");
+    }
+
+    @Test
+    void loadUserByUsername_CalledTwice_ShouldQueryRepositoryOnce() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername("testuser");
+        UserDetails second = userDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        assertEquals("testuser", second.getUsername());
+        assertEquals("encodedPassword", second.getPassword());
+        assertNotSame(first, second);
+        verify(userRepository, times(1)).findByUsername("testuser");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(2, meterRegistry.get("auth.user.lookup").timer().count());
+    }
+
+    @Test
+    void loadUserByUsername_WhenCredentialsErased_ShouldKeepCachedPassword() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        org.springframework.security.core.userdetails.User first =
+                (org.springframework.security.core.userdetails.User) userDetailsService.loadUserByUsername("testuser");
+
+        // Act
+        first.eraseCredentials();
+
+        // Assert
+        assertEquals("encodedPassword", userDetailsService.loadUserByUsername("testuser").getPassword());
+    }
+
+    @Test
+    void loadUserByUsername_WhenUserMissing_ShouldThrowAndNotCache() {
+        // Arrange
+        when(userRepository.findByUsername("missing")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("missing"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("missing"));
+        verify(userRepository, times(2)).findByUsername("missing");
+    }
+
+    @Test
+    void onUserChanged_ShouldEvictCurrentAndPreviousUsername() {
+        // Arrange
+        User renamed = new User();
+        renamed.setUsername("renamed");
+        renamed.setPassword("newPassword");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByUsername("renamed")).thenReturn(Optional.of(renamed));
+        userDetailsService.loadUserByUsername("testuser");
+        userDetailsService.loadUserByUsername("renamed");
+
+        // Act
+        userDetailsService.onUserChanged(UserChangedEvent.updated(renamed, "testuser", true));
+        userDetailsService.loadUserByUsername("testuser");
+        userDetailsService.loadUserByUsername("renamed");
+
+        // Assert
+        verify(userRepository, times(2)).findByUsername("testuser");
+        verify(userRepository, times(2)).findByUsername("renamed");
+    }
+
+    @Test
+    void updatePassword_ShouldPersistNewHashAndEvict() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        UserDetails loaded = userDetailsService.loadUserByUsername("testuser");
+
+        // Act
+        UserDetails updated = userDetailsService.updatePassword(loaded, "{bcrypt}rehashed");
+        userDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        assertEquals("{bcrypt}rehashed", updated.getPassword());
+        verify(userRepository, times(1)).updatePassword("testuser", "{bcrypt}rehashed");
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+}
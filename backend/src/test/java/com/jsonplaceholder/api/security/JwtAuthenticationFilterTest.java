@@ -6,15 +6,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -38,7 +42,6 @@ public class JwtAuthenticationFilterTest {
     @Mock
     private FilterChain filterChain;
 
-    @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     private UserDetails userDetails;
@@ -46,6 +49,7 @@ public class JwtAuthenticationFilterTest {
     @BeforeEach
     void setUp() {
         userDetails = new User("testuser", "password", new ArrayList<>());
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, false);
         SecurityContextHolder.clearContext();
     }
 
@@ -53,8 +57,8 @@ public class JwtAuthenticationFilterTest {
     void doFilterInternal_WithValidToken_ShouldSetAuthentication() throws Exception {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(tokenProvider.validateToken("valid-token")).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken("valid-token")).thenReturn("testuser");
+        when(tokenProvider.resolveToken("valid-token"))
+                .thenReturn(Optional.of(token(AuthorityUtils.createAuthorityList("ROLE_USER"))));
         when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
 
         // Act
@@ -63,6 +67,9 @@ public class JwtAuthenticationFilterTest {
         // Assert
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(tokenProvider, times(1)).resolveToken("valid-token");
+        verify(tokenProvider, never()).validateToken(anyString());
+        verify(tokenProvider, never()).getUsernameFromToken(anyString());
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -83,7 +90,7 @@ public class JwtAuthenticationFilterTest {
     void doFilterInternal_WithInvalidToken_ShouldNotSetAuthentication() throws Exception {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer invalid-token");
-        when(tokenProvider.validateToken("invalid-token")).thenReturn(false);
+        when(tokenProvider.resolveToken("invalid-token")).thenReturn(Optional.empty());
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -110,8 +117,7 @@ public class JwtAuthenticationFilterTest {
     void doFilterInternal_WithException_ShouldContinueFilterChain() throws Exception {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(tokenProvider.validateToken("valid-token")).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken("valid-token")).thenThrow(new RuntimeException("Token error"));
+        when(tokenProvider.resolveToken("valid-token")).thenThrow(new RuntimeException("Token error"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -120,4 +126,43 @@ public class JwtAuthenticationFilterTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain, times(1)).doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    @Test
+    void doFilterInternal_InStatelessMode_ShouldBuildPrincipalFromClaims() throws Exception {
+        // Arrange
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, true);
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
+        when(tokenProvider.resolveToken("valid-token"))
+                .thenReturn(Optional.of(token(AuthorityUtils.createAuthorityList("ROLE_USER"))));
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER"),
+                List.copyOf(SecurityContextHolder.getContext().getAuthentication().getAuthorities()));
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_InStatelessModeWithoutAuthoritiesClaim_ShouldLoadUserDetails() throws Exception {
+        // Arrange
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, true);
+        when(request.getHeader("Authorization")).thenReturn("Bearer legacy-token");
+        when(tokenProvider.resolveToken("legacy-token")).thenReturn(Optional.of(token(null)));
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+    }
+
+    private static ValidatedToken token(List<GrantedAuthority> authorities) {
+        return new ValidatedToken("testuser", Instant.now().plusSeconds(60), authorities, 0L, null);
+    }
+}
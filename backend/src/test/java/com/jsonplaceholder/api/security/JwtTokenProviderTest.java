@@ -1,15 +1,20 @@
 package com.jsonplaceholder.api.security;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -17,17 +22,23 @@ import static org.mockito.Mockito.when;
 
 public class JwtTokenProviderTest {
 
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-and-validation";
+
     private JwtTokenProvider tokenProvider;
+    private TokenRevocationRegistry revocationRegistry;
+    private RevokedSessionIndex revokedSessions;
     private UserDetails userDetails;
     private Authentication authentication;
 
     @BeforeEach
     void setUp() {
-        tokenProvider = new JwtTokenProvider();
-        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "test-secret-key-for-jwt-token-generation-and-validation");
-        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 3600000L); // 1 hour
+        revocationRegistry = new TokenRevocationRegistry(3600000L);
+        revokedSessions = new RevokedSessionIndex(3600000L, 100);
+        tokenProvider = new JwtTokenProvider(new HmacSigningKeys(SECRET), 3600000L, 100,
+                revocationRegistry, revokedSessions,
+                new SimpleMeterRegistry()); // 1 hour
 
-        userDetails = new User("testuser", "password", new ArrayList<>());
+        userDetails = new User("testuser", "password", AuthorityUtils.createAuthorityList("ROLE_USER"));
         authentication = mock(Authentication.class);
         when(authentication.getPrincipal()).thenReturn(userDetails);
     }
@@ -82,7 +93,9 @@ public class JwtTokenProviderTest {
     void validateToken_WithExpiredToken_ShouldReturnFalse() throws Exception {
         // Arrange
         // Set a very short expiration time
-        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 1L); // 1 millisecond
+        tokenProvider = new JwtTokenProvider(new HmacSigningKeys(SECRET), 1L, 100,
+                revocationRegistry, revokedSessions,
+                new SimpleMeterRegistry()); // 1 millisecond
         String token = tokenProvider.generateToken(authentication);
         
         // Wait for token to expire
@@ -107,4 +120,106 @@ public class JwtTokenProviderTest {
         // Assert
         assertFalse(isValid);
     }
-}
\ No newline at end of file
+
+    @Test
+    void resolveToken_WithValidToken_ShouldReturnSubjectAndExpiry() {
+        // Arrange
+        String token = tokenProvider.generateToken(authentication);
+
+        // Act
+        Optional<ValidatedToken> resolved = tokenProvider.resolveToken(token);
+
+        // Assert
+        assertTrue(resolved.isPresent());
+        assertEquals("testuser", resolved.get().getUsername());
+        assertTrue(resolved.get().getExpiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void resolveToken_CalledTwice_ShouldReuseCachedResult() {
+        // Arrange
+        String token = tokenProvider.generateToken(authentication);
+
+        // Act
+        ValidatedToken first = tokenProvider.resolveToken(token).orElseThrow();
+        ValidatedToken second = tokenProvider.resolveToken(token).orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("testuser", tokenProvider.getUsernameFromToken(token));
+    }
+
+    @Test
+    void resolveToken_WithExpiredCachedToken_ShouldReturnEmpty() throws Exception {
+        // Arrange
+        // exp is stored with second precision, so leave at least half a second of validity
+        tokenProvider = new JwtTokenProvider(new HmacSigningKeys(SECRET), 1500L, 100,
+                revocationRegistry, revokedSessions,
+                new SimpleMeterRegistry());
+        String token = tokenProvider.generateToken(authentication);
+        assertTrue(tokenProvider.resolveToken(token).isPresent());
+
+        // Wait for token to expire
+        Thread.sleep(1600);
+
+        // Act & Assert
+        assertFalse(tokenProvider.resolveToken(token).isPresent());
+    }
+
+    @Test
+    void resolveToken_WithModifiedToken_ShouldNotReuseCachedResult() {
+        // Arrange
+        String token = tokenProvider.generateToken(authentication);
+        tokenProvider.resolveToken(token);
+
+        // Act & Assert
+        assertFalse(tokenProvider.resolveToken(token + "modified").isPresent());
+        assertFalse(tokenProvider.resolveToken(null).isPresent());
+    }
+
+    @Test
+    void resolveToken_ShouldCarryAuthoritiesAndEpochFromClaims() {
+        // Arrange
+        String token = tokenProvider.generateToken(authentication);
+
+        // Act
+        ValidatedToken resolved = tokenProvider.resolveToken(token).orElseThrow();
+
+        // Assert
+        assertTrue(resolved.hasAuthorities());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER"), resolved.getAuthorities());
+        assertEquals(0L, resolved.getEpoch());
+    }
+
+    @Test
+    void resolveToken_AfterRevocation_ShouldRejectOlderTokensOnly() throws Exception {
+        // Arrange
+        String oldToken = tokenProvider.generateToken(authentication);
+        assertTrue(tokenProvider.validateToken(oldToken));
+        Thread.sleep(2);
+
+        // Act
+        revocationRegistry.revoke("testuser");
+        String newToken = tokenProvider.generateToken(authentication);
+
+        // Assert
+        assertFalse(tokenProvider.validateToken(oldToken));
+        assertTrue(tokenProvider.validateToken(newToken));
+    }
+
+    @Test
+    void resolveToken_WhenSessionIsRevoked_ShouldRejectItsTokensOnly() {
+        // Arrange
+        UUID session = UUID.randomUUID();
+        String sessionToken = tokenProvider.generateToken(userDetails, session);
+        String otherToken = tokenProvider.generateToken(userDetails, UUID.randomUUID());
+        assertEquals(session, tokenProvider.resolveToken(sessionToken).orElseThrow().getSessionId());
+
+        // Act
+        revokedSessions.revoke(List.of(session), System.currentTimeMillis());
+
+        // Assert
+        assertFalse(tokenProvider.validateToken(sessionToken));
+        assertTrue(tokenProvider.validateToken(otherToken));
+    }
+}
@@ -0,0 +1,144 @@
+package com.jsonplaceholder.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LoginRateLimitFilterTest {
+
+    @Mock
+    private LoginRateLimiter rateLimiter;
+
+    private LoginRateLimitFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LoginRateLimitFilter(rateLimiter, new ObjectMapper());
+        request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent("{\"username\":\"alice\",\"password\":\"secret\"}".getBytes(StandardCharsets.UTF_8));
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    void doFilter_WithinBudget_ShouldReplayTheBodyDownstream() throws Exception {
+        // Arrange
+        when(rateLimiter.acquireForIp("10.0.0.1")).thenReturn(Duration.ZERO);
+        when(rateLimiter.acquireForUsername("alice")).thenReturn(Duration.ZERO);
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals("{\"username\":\"alice\",\"password\":\"secret\"}",
+                new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doFilter_WithinBudget_ShouldReplayTheBodyToNonBlockingReaders() throws Exception {
+        // Arrange
+        when(rateLimiter.acquireForIp("10.0.0.1")).thenReturn(Duration.ZERO);
+        when(rateLimiter.acquireForUsername("alice")).thenReturn(Duration.ZERO);
+        filter.doFilter(request, response, chain);
+        ServletInputStream in = chain.getRequest().getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        ReadListener listener = mock(ReadListener.class);
+        doAnswer(invocation -> {
+            while (in.isReady() && !in.isFinished()) {
+                received.write(in.read());
+            }
+            return null;
+        }).when(listener).onDataAvailable();
+
+        // Act
+        in.setReadListener(listener);
+
+        // Assert
+        InOrder order = inOrder(listener);
+        order.verify(listener).onDataAvailable();
+        order.verify(listener).onAllDataRead();
+        verify(listener, never()).onError(any());
+        assertEquals("{\"username\":\"alice\",\"password\":\"secret\"}", received.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doFilter_WhenIpIsThrottled_ShouldRejectWithoutReadingTheBody() throws Exception {
+        // Arrange
+        when(rateLimiter.acquireForIp("10.0.0.1")).thenReturn(Duration.ofMillis(1500));
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        verify(rateLimiter, never()).acquireForUsername(anyString());
+    }
+
+    @Test
+    void doFilter_WhenUsernameIsThrottled_ShouldReject() throws Exception {
+        // Arrange
+        when(rateLimiter.acquireForIp("10.0.0.1")).thenReturn(Duration.ZERO);
+        when(rateLimiter.acquireForUsername("alice")).thenReturn(Duration.ofSeconds(10));
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("10", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_WithOversizedBody_ShouldReject() throws Exception {
+        // Arrange
+        when(rateLimiter.acquireForIp("10.0.0.1")).thenReturn(Duration.ZERO);
+        request.setContent(new byte[LoginRateLimitFilter.MAX_BODY_BYTES + 1]);
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_OnOtherPaths_ShouldNotTouchTheLimiter() throws Exception {
+        // Arrange
+        request.setRequestURI("/api/auth/register");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(rateLimiter);
+    }
+}
@@ -0,0 +1,146 @@
+package com.jsonplaceholder.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // per IP: 60/min, burst 3; per username: 6/min, burst 2
+        rateLimiter = new LoginRateLimiter(true, 1000, 60, 3, 6, 2, meterRegistry, clock::get);
+    }
+
+    @Test
+    void acquireForIp_BeyondBurst_ShouldRejectUntilATokenIsEmitted() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, rateLimiter.acquireForIp("10.0.0.1"));
+        }
+
+        // Act
+        Duration wait = rateLimiter.acquireForIp("10.0.0.1");
+
+        // Assert
+        assertEquals(Duration.ofSeconds(1), wait);
+        assertEquals(Duration.ZERO, rateLimiter.acquireForIp("10.0.0.2"));
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(Duration.ZERO, rateLimiter.acquireForIp("10.0.0.1"));
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void acquireForUsername_BeyondBurst_ShouldRejectAcrossCase() {
+        // Arrange
+        assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("alice"));
+        assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("ALICE"));
+
+        // Act
+        Duration wait = rateLimiter.acquireForUsername("Alice");
+
+        // Assert
+        assertEquals(Duration.ofSeconds(10), wait);
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("key", "username").counter().count());
+    }
+
+    @Test
+    void acquireForUsername_FromConcurrentClients_ShouldLetOnlyTheBurstThrough() throws Exception {
+        // Arrange
+        int clients = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<Duration>> waits = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            waits.add(executor.submit(() -> {
+                start.await();
+                return rateLimiter.acquireForUsername("carol");
+            }));
+        }
+
+        // Act
+        start.countDown();
+
+        // Assert
+        int admitted = 0;
+        for (Future<Duration> wait : waits) {
+            admitted += wait.get(5, TimeUnit.SECONDS).isZero() ? 1 : 0;
+        }
+        executor.shutdown();
+        assertEquals(2, admitted);
+    }
+
+    @Test
+    void refundUsername_ShouldGiveBackTheReservedAttempt() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("carol"));
+            rateLimiter.refundUsername("Carol");
+        }
+
+        // Assert
+        assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("carol"));
+        assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("carol"));
+        assertFalse(rateLimiter.acquireForUsername("carol").isZero());
+    }
+
+    @Test
+    void acquireForUsername_AfterIdling_ShouldRefillTheWholeBurst() {
+        // Arrange
+        rateLimiter.acquireForUsername("bob");
+        rateLimiter.acquireForUsername("bob");
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        // Act & Assert
+        assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("bob"));
+        assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("bob"));
+        assertFalse(rateLimiter.acquireForUsername("bob").isZero());
+    }
+
+    @Test
+    void onAuthenticationSuccess_ShouldRefundTheUsername() {
+        // Arrange
+        UsernamePasswordAuthenticationToken authenticated =
+                UsernamePasswordAuthenticationToken.authenticated("dave", null, List.of());
+        rateLimiter.acquireForUsername("dave");
+        rateLimiter.acquireForUsername("dave");
+
+        // Act
+        rateLimiter.onAuthenticationSuccess(new AuthenticationSuccessEvent(authenticated));
+
+        // Assert
+        assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("dave"));
+        assertFalse(rateLimiter.acquireForUsername("dave").isZero());
+    }
+
+    @Test
+    void acquire_WhenDisabled_ShouldAlwaysAllow() {
+        // Arrange
+        rateLimiter = new LoginRateLimiter(false, 1000, 1, 1, 1, 1, meterRegistry, clock::get);
+
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Duration.ZERO, rateLimiter.acquireForIp("10.0.0.1"));
+            assertEquals(Duration.ZERO, rateLimiter.acquireForUsername("alice"));
+        }
+    }
+}
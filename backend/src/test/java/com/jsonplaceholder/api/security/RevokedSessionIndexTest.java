@@ -0,0 +1,79 @@
+package com.jsonplaceholder.api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RevokedSessionIndexTest {
+
+    @Test
+    void isRevoked_ShouldOnlyMatchRevokedSessions() {
+        // Arrange
+        RevokedSessionIndex index = new RevokedSessionIndex(3600000L, 100);
+        UUID revoked = UUID.randomUUID();
+
+        // Act
+        index.revoke(List.of(revoked), System.currentTimeMillis());
+
+        // Assert
+        assertTrue(index.isRevoked(revoked));
+        assertFalse(index.isRevoked(UUID.randomUUID()));
+    }
+
+    @Test
+    void revoke_BeyondExpectedSessions_ShouldGrowWithoutLosingEntries() {
+        // Arrange
+        RevokedSessionIndex index = new RevokedSessionIndex(3600000L, 10);
+        List<UUID> sessions = IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID()).toList();
+
+        // Act
+        sessions.forEach(session -> index.revoke(List.of(session), System.currentTimeMillis()));
+
+        // Assert
+        assertEquals(1000, index.size());
+        assertTrue(sessions.stream().allMatch(index::isRevoked));
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> index.isRevoked(UUID.randomUUID()))
+                .count();
+        assertEquals(0, falsePositives);
+    }
+
+    @Test
+    void revoke_ShouldForgetSessionsOlderThanTheAccessTokenLifetime() {
+        // Arrange
+        RevokedSessionIndex index = new RevokedSessionIndex(60_000L, 100);
+        UUID old = UUID.randomUUID();
+        index.revoke(List.of(old), System.currentTimeMillis() - 120_000L);
+
+        // Act
+        UUID recent = UUID.randomUUID();
+        index.revoke(List.of(recent), System.currentTimeMillis());
+
+        // Assert
+        assertFalse(index.isRevoked(old));
+        assertTrue(index.isRevoked(recent));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void prune_WithoutNewRevocations_ShouldForgetExpiredSessionsAndShrinkTheFilter() throws Exception {
+        // Arrange
+        RevokedSessionIndex index = new RevokedSessionIndex(50L, 10);
+        List<UUID> sessions = IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID()).toList();
+        index.revoke(sessions, System.currentTimeMillis());
+        assertTrue(index.filterCapacity() >= 1000);
+        Thread.sleep(100);
+
+        // Act
+        index.prune();
+
+        // Assert
+        assertEquals(0, index.size());
+        assertEquals(10, index.filterCapacity());
+        assertTrue(sessions.stream().noneMatch(index::isRevoked));
+    }
+}
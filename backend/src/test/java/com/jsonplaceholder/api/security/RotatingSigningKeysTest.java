@@ -0,0 +1,215 @@
+package com.jsonplaceholder.api.security;
+
+import com.jsonplaceholder.api.model.JwtSigningKey;
+import com.jsonplaceholder.api.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RotatingSigningKeysTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-and-validation";
+    private static final long ACCESS_LIFETIME = Duration.ofMinutes(15).toMillis();
+    private static final Duration ROTATION = Duration.ofHours(24);
+    private static final Duration SKEW = Duration.ofMinutes(1);
+
+    @Mock
+    private JwtSigningKeyRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<JwtSigningKey> stored = new ArrayList<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(repository.findAll()).thenAnswer(invocation -> new ArrayList<>(stored));
+        lenient().when(repository.saveAll(any())).thenAnswer(invocation -> {
+            Collection<JwtSigningKey> keys = invocation.getArgument(0);
+            stored.addAll(keys);
+            return List.copyOf(keys);
+        });
+        lenient().when(repository.deleteExpiredBefore(any())).thenAnswer(invocation -> {
+            Instant now = invocation.getArgument(0);
+            int before = stored.size();
+            stored.removeIf(key -> key.getExpiresAt().isBefore(now));
+            return before - stored.size();
+        });
+    }
+
+    @Test
+    void current_OnAnEmptyRing_ShouldCreateTheActiveKeyAndPublishItsSuccessor() {
+        // Arrange
+        RotatingSigningKeys keys = keys(SECRET);
+
+        // Act
+        JwtSigningKeys.SigningKey current = keys.current();
+
+        // Assert
+        assertEquals(2, stored.size());
+        JwtSigningKey active = stored(current.kid());
+        assertEquals(clock.instant(), active.getActivatesAt());
+        assertEquals(clock.instant().plus(ROTATION), active.getRetiresAt());
+        assertEquals(2, keys.publicJwks().size());
+        assertTrue(stored.stream().allMatch(key -> keys.verificationKey(key.getKid()).isPresent()));
+        verify(repository).saveAll(any());
+    }
+
+    @Test
+    void current_AfterTheRotationInterval_ShouldSignWithTheSuccessorAndStillVerifyTheRetiredKey() {
+        // Arrange
+        RotatingSigningKeys keys = keys(SECRET);
+        String retired = keys.current().kid();
+        String successor = stored.stream().map(JwtSigningKey::getKid).filter(kid -> !kid.equals(retired))
+                .findFirst().orElseThrow();
+        String token = Jwts.builder().setSubject("testuser").setHeaderParam("kid", retired)
+                .signWith(keys.current().key(), keys.current().algorithm()).compact();
+
+        // Act
+        clock.advance(ROTATION);
+
+        // Assert
+        assertEquals(successor, keys.current().kid());
+        assertEquals(3, stored.size());
+        assertEquals("testuser", Jwts.parserBuilder()
+                .setSigningKey(keys.verificationKey(retired).orElseThrow())
+                .build().parseClaimsJws(token).getBody().getSubject());
+    }
+
+    @Test
+    void verificationKey_AfterTheOverlapWindow_ShouldDropTheRetiredKey() {
+        // Arrange
+        RotatingSigningKeys keys = keys(SECRET);
+        String retired = keys.current().kid();
+
+        // Act
+        clock.advance(ROTATION.plusMillis(ACCESS_LIFETIME).plus(SKEW).plusSeconds(1));
+
+        // Assert
+        assertNotEquals(retired, keys.current().kid());
+        assertTrue(keys.verificationKey(retired).isEmpty());
+        assertTrue(keys.publicJwks().stream().noneMatch(jwk -> retired.equals(jwk.get("kid"))));
+        assertTrue(stored.stream().noneMatch(key -> key.getKid().equals(retired)));
+    }
+
+    @Test
+    void current_OnASecondInstance_ShouldReuseTheSharedKeys() {
+        // Arrange
+        RotatingSigningKeys first = keys(SECRET);
+        String kid = first.current().kid();
+
+        // Act
+        RotatingSigningKeys second = keys(SECRET);
+
+        // Assert
+        assertEquals(kid, second.current().kid());
+        assertEquals(2, stored.size());
+        verify(repository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void current_WithKeysStoredUnderAnotherSecret_ShouldCreateItsOwnButKeepVerifyingThem() {
+        // Arrange
+        String foreign = keys("another-secret-key-for-jwt-token-generation-and-validation").current().kid();
+
+        // Act
+        RotatingSigningKeys keys = keys(SECRET);
+
+        // Assert
+        assertNotEquals(foreign, keys.current().kid());
+        assertTrue(keys.verificationKey(foreign).isPresent());
+    }
+
+    @Test
+    void verificationKey_ForAnUnknownKid_ShouldReloadAtMostOncePerInterval() {
+        // Arrange
+        RotatingSigningKeys keys = keys(SECRET);
+        keys.current();
+        clearInvocations(repository);
+
+        // Act
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(keys.verificationKey("unknown").isEmpty());
+        assertTrue(keys.verificationKey("unknown").isEmpty());
+
+        // Assert
+        verify(repository, times(1)).findAll();
+        assertTrue(keys.verificationKey(null).isEmpty());
+    }
+
+    @Test
+    void publicJwks_ShouldDescribeP256Keys() {
+        // Arrange
+        RotatingSigningKeys keys = keys(SECRET);
+
+        // Act
+        List<Map<String, Object>> jwks = keys.publicJwks();
+
+        // Assert
+        assertFalse(jwks.isEmpty());
+        jwks.forEach(jwk -> {
+            assertEquals("EC", jwk.get("kty"));
+            assertEquals("P-256", jwk.get("crv"));
+            assertEquals("ES256", jwk.get("alg"));
+            assertEquals(43, ((String) jwk.get("x")).length());
+            assertEquals(43, ((String) jwk.get("y")).length());
+            assertFalse(jwk.containsKey("d"));
+        });
+    }
+
+    private RotatingSigningKeys keys(String secret) {
+        return new RotatingSigningKeys(repository, transactionManager, secret, ACCESS_LIFETIME, ROTATION, SKEW, clock);
+    }
+
+    private JwtSigningKey stored(String kid) {
+        return stored.stream().filter(key -> key.getKid().equals(kid)).findFirst().orElseThrow();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
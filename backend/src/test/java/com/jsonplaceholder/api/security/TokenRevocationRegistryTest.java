@@ -0,0 +1,188 @@
+package com.jsonplaceholder.api.security;
+
+import com.jsonplaceholder.api.model.TokenRevocation;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.repository.TokenRevocationRepository;
+import com.jsonplaceholder.api.service.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TokenRevocationRegistryTest {
+
+    private TokenRevocationRegistry registry;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry(3600000L);
+        user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+    }
+
+    @Test
+    void isRevoked_WithoutRevocation_ShouldReturnFalse() {
+        assertFalse(registry.isRevoked("testuser", 0L));
+        assertEquals(0L, registry.currentEpoch("testuser"));
+    }
+
+    @Test
+    void revoke_ShouldRejectTokensFromEarlierEpochs() {
+        // Act
+        registry.revoke("testuser");
+        long epoch = registry.currentEpoch("testuser");
+
+        // Assert
+        assertTrue(registry.isRevoked("testuser", 0L));
+        assertFalse(registry.isRevoked("testuser", epoch));
+        assertFalse(registry.isRevoked("otheruser", 0L));
+    }
+
+    @Test
+    void revoke_ShouldDropEntriesOlderThanTokenLifetime() throws Exception {
+        // Arrange
+        registry = new TokenRevocationRegistry(1L);
+        registry.revoke("olduser");
+        Thread.sleep(5);
+
+        // Act
+        registry.revoke("testuser");
+
+        // Assert
+        assertEquals(1, registry.size());
+        assertEquals(0L, registry.currentEpoch("olduser"));
+    }
+
+    @Test
+    void onUserChanged_WhenPasswordChanged_ShouldRevoke() {
+        // Act
+        registry.onUserChanged(UserChangedEvent.updated(user, "testuser", true));
+
+        // Assert
+        assertTrue(registry.isRevoked("testuser", 0L));
+    }
+
+    @Test
+    void onUserChanged_WhenUsernameChanged_ShouldRevokePreviousUsername() {
+        // Act
+        registry.onUserChanged(UserChangedEvent.updated(user, "oldname", false));
+
+        // Assert
+        assertTrue(registry.isRevoked("oldname", 0L));
+        assertFalse(registry.isRevoked("testuser", 0L));
+    }
+
+    @Test
+    void onUserChanged_WhenProfileUpdatedOrCreated_ShouldNotRevoke() {
+        // Act
+        registry.onUserChanged(UserChangedEvent.updated(user, "testuser", false));
+        registry.onUserChanged(UserChangedEvent.created(user));
+
+        // Assert
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void onUserChanged_WhenDeleted_ShouldRevoke() {
+        // Act
+        registry.onUserChanged(UserChangedEvent.deleted(user));
+
+        // Assert
+        assertTrue(registry.isRevoked("testuser", 0L));
+    }
+
+    @Test
+    void onUserChanged_WithARepository_ShouldPersistTheEpoch() {
+        // Arrange
+        TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+        registry = new TokenRevocationRegistry(3600000L, repository);
+
+        // Act
+        registry.onUserChanged(UserChangedEvent.updated(user, "testuser", true));
+
+        // Assert
+        ArgumentCaptor<TokenRevocation> saved = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(repository).save(saved.capture());
+        assertEquals("testuser", saved.getValue().getUsername());
+        assertEquals(registry.currentEpoch("testuser"), saved.getValue().getRevokedAt().toEpochMilli());
+    }
+
+    @Test
+    void loadRevocations_ShouldRestoreEpochsStoredByThisOrAnotherInstance() {
+        // Arrange
+        TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setUsername("testuser");
+        revocation.setRevokedAt(Instant.now().minusSeconds(60));
+        when(repository.findByRevokedAtGreaterThanEqual(any())).thenReturn(List.of(revocation));
+        registry = new TokenRevocationRegistry(3600000L, repository);
+
+        // Act
+        registry.loadRevocations();
+
+        // Assert
+        assertTrue(registry.isRevoked("testuser", revocation.getRevokedAt().toEpochMilli() - 1));
+        assertFalse(registry.isRevoked("testuser", revocation.getRevokedAt().toEpochMilli()));
+        verify(repository).deleteRevokedBefore(any());
+    }
+
+    @Test
+    void pollRevocations_ShouldOnlyAskForRecentRevocations() {
+        // Arrange
+        TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+        registry = new TokenRevocationRegistry(3600000L, repository);
+        Instant start = Instant.now();
+        registry.loadRevocations();
+
+        // Act
+        registry.pollRevocations();
+
+        // Assert
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(repository, times(2)).findByRevokedAtGreaterThanEqual(since.capture());
+        assertTrue(since.getAllValues().get(0).isBefore(start.minusSeconds(3000)));
+        assertTrue(since.getAllValues().get(1).isAfter(start.minusSeconds(120)));
+    }
+
+    @Test
+    void issuingEpoch_AfterARevocationOnAnotherInstance_ShouldIssueATokenTheNextPollKeepsValid() {
+        // Arrange
+        TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setUsername("testuser");
+        revocation.setRevokedAt(Instant.now().minusSeconds(5));
+        when(repository.findById("testuser")).thenReturn(Optional.of(revocation));
+        registry = new TokenRevocationRegistry(3600000L, repository);
+
+        // Act
+        long epoch = registry.issuingEpoch("testuser");
+
+        // Assert
+        assertEquals(revocation.getRevokedAt().toEpochMilli(), epoch);
+        when(repository.findByRevokedAtGreaterThanEqual(any())).thenReturn(List.of(revocation));
+        registry.pollRevocations();
+        assertFalse(registry.isRevoked("testuser", epoch));
+        assertTrue(registry.isRevoked("testuser", 0L));
+    }
+
+    @Test
+    void issuingEpoch_WithoutAStoredRevocation_ShouldReturnTheCurrentEpoch() {
+        // Arrange
+        TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+        when(repository.findById("testuser")).thenReturn(Optional.empty());
+        registry = new TokenRevocationRegistry(3600000L, repository);
+
+        // Act & Assert
+        assertEquals(0L, registry.issuingEpoch("testuser"));
+        assertEquals(0L, new TokenRevocationRegistry(3600000L).issuingEpoch("testuser"));
+    }
+}
@@ -0,0 +1,195 @@
+package com.jsonplaceholder.api.service;
+
+import com.jsonplaceholder.api.model.RegistrationStatus;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RegistrationQueueTest {
+
+    @Mock
+    private UserService userService;
+
+    private final AtomicLong ids = new AtomicLong();
+    private RegistrationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new RegistrationQueue(userService, false, 100, 50, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        lenient().when(userService.createUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(ids.incrementAndGet()));
+            return users;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        queue.shutdown();
+    }
+
+    @Test
+    void submit_ShouldRegisterTheUserAndReportItsId() {
+        // Arrange
+        when(userService.findIdentitiesByUsernamesOrEmails(anyCollection(), anyCollection())).thenReturn(List.of());
+
+        // Act
+        RegistrationStatus submitted = queue.submit(user("alice", "alice@example.com"));
+        queue.flush();
+
+        // Assert
+        assertNotNull(submitted.getTicket());
+        RegistrationStatus status = queue.status(submitted.getTicket()).orElseThrow();
+        assertEquals(RegistrationStatus.State.CREATED, status.getState());
+        assertEquals(1L, status.getUserId());
+    }
+
+    @Test
+    void flush_ShouldRejectDuplicatesWithinTheBatchAndAgainstTheTable() {
+        // Arrange
+        CountDownLatch hold = holdFlusher(List.of(identity("taken", "taken@example.com")));
+        String first = queue.submit(user("bob", "bob@example.com")).getTicket();
+        String sameUsername = queue.submit(user("bob", "bob2@example.com")).getTicket();
+        String sameEmail = queue.submit(user("carol", "bob@example.com")).getTicket();
+        String existing = queue.submit(user("taken", "new@example.com")).getTicket();
+        hold.countDown();
+
+        // Act
+        queue.flush();
+
+        // Assert
+        assertEquals(RegistrationStatus.State.CREATED, queue.status(first).orElseThrow().getState());
+        assertEquals(RegistrationQueue.USERNAME_TAKEN, queue.status(sameUsername).orElseThrow().getReason());
+        assertEquals(RegistrationQueue.EMAIL_TAKEN, queue.status(sameEmail).orElseThrow().getReason());
+        assertEquals(RegistrationQueue.USERNAME_TAKEN, queue.status(existing).orElseThrow().getReason());
+    }
+
+    @Test
+    void flush_WhenTheBatchLosesARace_ShouldRetryOneByOneWithTheRawPassword() {
+        // Arrange
+        when(userService.createUsers(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(userService.createUser(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if (user.getUsername().equals("dave")) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            assertEquals("password", user.getPassword());
+            assertNull(user.getId());
+            user.setId(42L);
+            return user;
+        });
+        CountDownLatch hold = holdFlusher(List.of());
+        String lost = queue.submit(user("dave", "dave@example.com")).getTicket();
+        String won = queue.submit(user("erin", "erin@example.com")).getTicket();
+        hold.countDown();
+
+        // Act
+        queue.flush();
+
+        // Assert
+        assertEquals(RegistrationQueue.CONFLICT, queue.status(lost).orElseThrow().getReason());
+        assertEquals(42L, queue.status(won).orElseThrow().getUserId());
+    }
+
+    @Test
+    void submit_WhenTheQueueIsFull_ShouldRefuse() throws Exception {
+        // Arrange
+        queue.shutdown();
+        queue = new RegistrationQueue(userService, false, 1, 50, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        CountDownLatch hold = holdFlusher(List.of());
+        queue.submit(user("frank", "frank@example.com"));
+
+        // Act & Assert
+        assertThrows(RegistrationQueueFullException.class, () -> queue.submit(user("grace", "grace@example.com")));
+        hold.countDown();
+    }
+
+    @Test
+    void submit_DuringAFlush_ShouldScheduleOnlyOneMoreFlush() {
+        // Arrange
+        CountDownLatch hold = holdFlusher(List.of());
+
+        // Act
+        List<String> tickets = IntStream.range(0, 20)
+                .mapToObj(i -> queue.submit(user("user" + i, "user" + i + "@example.com")).getTicket())
+                .toList();
+
+        // Assert
+        assertEquals(1, queue.queuedFlushes());
+        hold.countDown();
+        queue.flush();
+        assertTrue(tickets.stream().allMatch(ticket ->
+                queue.status(ticket).orElseThrow().getState() == RegistrationStatus.State.CREATED));
+    }
+
+    @Test
+    void status_WithUnknownTicket_ShouldBeEmpty() {
+        assertTrue(queue.status("unknown").isEmpty());
+    }
+
+    /**
+     * Occupies the flusher thread until the returned latch is released, so the next submissions queue up and
+     * are flushed as one batch that sees {@code taken} as the existing identities.
+     */
+    private CountDownLatch holdFlusher(List<UserIdentity> taken) {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userService.findIdentitiesByUsernamesOrEmails(anyCollection(), anyCollection()))
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                })
+                .thenReturn(taken);
+        queue.submit(user("holder", "holder@example.com"));
+        try {
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return release;
+    }
+
+    private static User user(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("password");
+        return user;
+    }
+
+    private static UserIdentity identity(String username, String email) {
+        return new UserIdentity() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.jsonplaceholder.api.service;
+
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserSuggestion;
+import com.jsonplaceholder.api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserAutocompleteIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserAutocompleteIndex(userRepository);
+        when(userRepository.streamSuggestions()).thenReturn(Stream.of(
+                new UserSuggestion(1L, "Bret", "Leanne Graham"),
+                new UserSuggestion(2L, "Antonette", "Ervin Howell"),
+                new UserSuggestion(3L, "Samantha", "Clementine Bauch"),
+                new UserSuggestion(4L, "Karianne", "Patricia Lebsack")));
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void complete_ShouldMatchUsernameNameAndLaterNameWordsCaseInsensitively() {
+        // Act & Assert
+        assertEquals(List.of(1L), ids(index.complete("bR", 10)));
+        assertEquals(List.of(2L), ids(index.complete("ERVIN h", 10)));
+        assertEquals(List.of(2L), ids(index.complete("how", 10)));
+        assertTrue(index.complete("  ", 10).isEmpty());
+        assertTrue(index.complete("zz", 10).isEmpty());
+    }
+
+    @Test
+    void complete_ShouldReturnEachUserOnceAndHonourTheLimit() {
+        // Arrange
+        onChanged(UserChangedEvent.created(user(5L, "leanne", "Leanne Lee")));
+
+        // Act
+        List<UserSuggestion> all = index.complete("le", 10);
+        List<UserSuggestion> first = index.complete("le", 1);
+
+        // Assert
+        assertEquals(List.of(5L, 1L, 4L), ids(all));
+        assertEquals(1, first.size());
+    }
+
+    @Test
+    void onUserChanged_ShouldReindexRenamedUsersAndDropDeletedOnes() {
+        // Act
+        onChanged(UserChangedEvent.updated(user(1L, "bret2", "Leanne Smith"), "Bret", false));
+        onChanged(UserChangedEvent.deleted(user(2L, "Antonette", "Ervin Howell")));
+
+        // Assert
+        assertEquals(List.of(1L), ids(index.complete("bret2", 10)));
+        assertEquals("Leanne Smith", index.complete("smi", 10).get(0).getName());
+        assertTrue(index.complete("graham", 10).isEmpty());
+        assertTrue(index.complete("ervin", 10).isEmpty());
+        assertEquals(List.of(3L), ids(index.complete("c", 10)));
+    }
+
+    private void onChanged(UserChangedEvent event) {
+        index.onUserChanged(event);
+        index.flush();
+    }
+
+    private static List<Long> ids(List<UserSuggestion> suggestions) {
+        return suggestions.stream().map(UserSuggestion::getId).toList();
+    }
+
+    private static User user(Long id, String username, String name) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setName(name);
+        return user;
+    }
+}
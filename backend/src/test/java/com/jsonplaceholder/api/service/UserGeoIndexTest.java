@@ -0,0 +1,91 @@
+package com.jsonplaceholder.api.service;
+
+import com.jsonplaceholder.api.model.Address;
+import com.jsonplaceholder.api.model.Geo;
+import com.jsonplaceholder.api.model.NearbyUser;
+import com.jsonplaceholder.api.model.User;
+import com.jsonplaceholder.api.model.UserLocation;
+import com.jsonplaceholder.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserGeoIndexTest {
+
+    private static final double BERLIN_LAT = 52.5200;
+    private static final double BERLIN_LNG = 13.4050;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserGeoIndex(userRepository, 0.25);
+        when(userRepository.streamLocations()).thenReturn(Stream.of(
+                new UserLocation(1L, "berlin", "Berlin", BERLIN_LAT, BERLIN_LNG),
+                new UserLocation(2L, "potsdam", "Potsdam", 52.3906, 13.0645),
+                new UserLocation(3L, "hamburg", "Hamburg", 53.5511, 9.9937),
+                new UserLocation(4L, "paris", "Paris", 48.8566, 2.3522),
+                new UserLocation(5L, "auckland", "Auckland", -36.8485, 174.7633)));
+        index.rebuild();
+    }
+
+    @Test
+    void within_ShouldReturnUsersInsideTheRadiusNearestFirst() {
+        // Act
+        List<NearbyUser> nearby = index.within(BERLIN_LAT, BERLIN_LNG, 300, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), ids(nearby));
+        assertEquals(0.0, nearby.get(0).getDistanceKm(), 1e-9);
+        assertEquals(255, nearby.get(2).getDistanceKm(), 5);
+    }
+
+    @Test
+    void nearest_ShouldWidenTheSearchUntilKUsersAreFound() {
+        // Act & Assert
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.nearest(BERLIN_LAT, BERLIN_LNG, 4)));
+        // Fiji to Auckland crosses the antimeridian
+        assertEquals(List.of(5L), ids(index.nearest(-17.7134, -178.0650, 1)));
+        assertEquals(5, index.nearest(0, 0, 50).size());
+    }
+
+    @Test
+    void onUserChanged_ShouldMoveAndDropUsers() {
+        // Arrange
+        User moved = new User();
+        moved.setId(4L);
+        moved.setUsername("paris");
+        Geo geo = new Geo();
+        geo.setLat(52.5000);
+        geo.setLng(13.4000);
+        Address address = new Address();
+        address.setGeo(geo);
+        moved.setAddress(address);
+        User deleted = new User();
+        deleted.setId(2L);
+
+        // Act
+        index.onUserChanged(UserChangedEvent.updated(moved, "paris", false));
+        index.onUserChanged(UserChangedEvent.deleted(deleted));
+
+        // Assert
+        assertEquals(List.of(1L, 4L), ids(index.within(BERLIN_LAT, BERLIN_LNG, 50, 10)));
+        assertEquals(4, index.size());
+    }
+
+    private static List<Long> ids(List<NearbyUser> users) {
+        return users.stream().map(user -> user.getUser().getId()).toList();
+    }
+}
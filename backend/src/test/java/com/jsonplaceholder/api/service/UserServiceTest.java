@@ -1,19 +1,25 @@
 package com.jsonplaceholder.api.service;
 
+import com.jsonplaceholder.api.model.CursorPage;
 import com.jsonplaceholder.api.model.User;
 import com.jsonplaceholder.api.repository.UserRepository;
 import com.jsonplaceholder.api.service.impl.UserServiceImpl;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +36,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -59,6 +71,58 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findAll();
     }
 
+    @Test
+    void getUsersPage_WhenMoreRowsExist_ShouldReturnNextCursor() {
+        // Arrange
+        User second = new User();
+        second.setId(2L);
+        User third = new User();
+        third.setId(3L);
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(Arrays.asList(testUser, second, third));
+
+        // Act
+        CursorPage<User> page = userService.getUsersPage(null, 2);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals(2L, page.getNextCursor());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void getUsersPage_OnLastPage_ShouldNotReturnNextCursor() {
+        // Arrange
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(3)))
+                .thenReturn(List.of(testUser));
+
+        // Act
+        CursorPage<User> page = userService.getUsersPage(1L, 2);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void exportUsers_ShouldStreamAndDetachEveryUser() {
+        // Arrange
+        User second = new User();
+        second.setId(2L);
+        when(userRepository.streamAll()).thenReturn(Stream.of(testUser, second));
+        List<User> exported = new ArrayList<>();
+
+        // Act
+        long count = userService.exportUsers(exported::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(Arrays.asList(testUser, second), exported);
+        verify(entityManager, times(1)).detach(testUser);
+        verify(entityManager, times(1)).detach(second);
+        verify(userRepository, never()).findAll();
+    }
+
     @Test
     void getUserById_WhenUserExists_ShouldReturnUser() {
         // Arrange
@@ -99,6 +163,7 @@ public class UserServiceTest {
         assertEquals(testUser, result);
         verify(passwordEncoder, times(1)).encode("password");
         verify(userRepository, times(1)).save(testUser);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.created(testUser));
     }
 
     @Test
@@ -123,6 +188,7 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(passwordEncoder, times(1)).encode("newpassword");
         verify(userRepository, times(1)).save(updatedUser);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.updated(updatedUser, "testuser", true));
     }
 
     @Test
@@ -146,6 +212,92 @@ public class UserServiceTest {
 
         // Assert
         verify(userRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void deleteUser_WhenUserExists_ShouldPublishDeletedEvent() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // Act
+        userService.deleteUser(1L);
+
+        // Assert
+        verify(userRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.deleted(testUser));
+    }
+
+    @Test
+    void createUsers_ShouldEncodePasswordsAndSaveInOneCall() {
+        // Arrange
+        User second = new User();
+        second.setId(99L);
+        second.setUsername("second");
+        second.setPassword("secret");
+        List<User> users = Arrays.asList(testUser, second);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(passwordEncoder.encode("secret")).thenReturn("encodedSecret");
+        when(userRepository.saveAll(users)).thenReturn(users);
+
+        // Act
+        List<User> result = userService.createUsers(users);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertNull(second.getId());
+        assertEquals("encodedPassword", testUser.getPassword());
+        assertEquals("encodedSecret", second.getPassword());
+        verify(userRepository, times(1)).saveAll(users);
+        verify(userRepository, never()).save(any(User.class));
+        verify(eventPublisher, times(2)).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void updateUsers_ShouldKeepExistingPasswordWhenNoneGiven() {
+        // Arrange
+        User existing = new User();
+        existing.setId(1L);
+        existing.setUsername("testuser");
+        existing.setPassword("storedHash");
+        User update = new User();
+        update.setId(1L);
+        update.setUsername("testuser");
+        update.setName("Renamed");
+        List<User> users = List.of(update);
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(existing));
+        when(userRepository.saveAll(users)).thenReturn(users);
+
+        // Act
+        userService.updateUsers(users);
+
+        // Assert
+        assertEquals("storedHash", update.getPassword());
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.updated(update, "testuser", false));
+    }
+
+    @Test
+    void updateUsers_WhenAnyUserMissing_ShouldThrowAndSaveNothing() {
+        // Arrange
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> userService.updateUsers(List.of(testUser)));
+        verify(userRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void deleteUsers_ShouldDeleteInOneStatementAndPublishEvents() {
+        // Arrange
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(testUser));
+
+        // Act
+        userService.deleteUsers(List.of(1L, 2L));
+
+        // Assert
+        verify(userRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.deleted(testUser));
     }
 
     @Test